@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark;
+
+import java.util.Random;
+
+/**
+ * Utilities to generate the texts used by the benchmarks.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class BenchmarkTexts {
+	private static final String[] WORDS = {"lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+			"eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua"};
+
+	private BenchmarkTexts() {
+		throw new UnsupportedOperationException("BenchmarkTexts only contains static definitions.");
+	}
+
+	/**
+	 * Generates a text made of words and paragraphs, the same length always giving the same text.
+	 *
+	 * @param length the length of the text
+	 * @return the generated text
+	 */
+	public static String generate(int length) {
+		var random = new Random(length);
+		var builder = new StringBuilder(length + 16);
+		while (builder.length() < length) {
+			builder.append(WORDS[random.nextInt(WORDS.length)]);
+			builder.append(random.nextInt(40) == 0 ? '\n' : ' ');
+		}
+		builder.setLength(length);
+		return builder.toString();
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark;
+
+
+import dev.lambdaurora.spruceui.util.ColorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the color operations of {@link ColorUtil}, over a batch of colors to avoid constant folding.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColorUtilBenchmark {
+	private static final int COLORS = 1024;
+
+	private final int[] colors = new int[COLORS];
+	private final int[] otherColors = new int[COLORS];
+	private final float[] multipliers = new float[COLORS];
+
+	@Setup(Level.Trial)
+	public void setup() {
+		var random = new Random(42);
+		for (int i = 0; i < COLORS; i++) {
+			this.colors[i] = random.nextInt();
+			this.otherColors[i] = random.nextInt();
+			this.multipliers[i] = random.nextFloat();
+		}
+	}
+
+	@Benchmark
+	public int pack() {
+		int result = 0;
+		for (int color : this.colors) {
+			result ^= ColorUtil.packARGBColor(color & 0xff, (color >> 8) & 0xff, (color >> 16) & 0xff, color >>> 24);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public int unpack() {
+		int result = 0;
+		for (int color : this.colors) {
+			int[] components = ColorUtil.unpackARGBColor(color);
+			result ^= components[0] + components[1] + components[2] + components[3];
+		}
+		return result;
+	}
+
+	@Benchmark
+	public int multiply() {
+		int result = 0;
+		for (int i = 0; i < COLORS; i++) {
+			result ^= ColorUtil.argbMultiply(this.colors[i], this.multipliers[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public int multiplyColors() {
+		int result = 0;
+		for (int i = 0; i < COLORS; i++) {
+			result ^= ColorUtil.argbMultiply(this.colors[i], this.otherColors[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public int darken() {
+		int result = 0;
+		for (int color : this.colors) {
+			result ^= ColorUtil.argbDarken(color);
+		}
+		return result;
+	}
+}
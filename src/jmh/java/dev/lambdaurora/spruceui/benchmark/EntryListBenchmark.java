@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark;
+
+
+import dev.lambdaurora.spruceui.Position;
+import dev.lambdaurora.spruceui.widget.container.SpruceEntryListWidget;
+import net.minecraft.client.util.math.MatrixStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks scrolling through a {@link SpruceEntryListWidget} with a large number of entries.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntryListBenchmark {
+	@Param({"10", "1000", "100000"})
+	public int entries;
+
+	private BenchmarkList list;
+	private int step;
+	private int scroll;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.list = new BenchmarkList(this.entries);
+		// Scrolls by a bit more than a page, so every step swaps the whole visible window.
+		this.step = this.list.getHeight() + BenchmarkEntry.HEIGHT;
+	}
+
+	@Benchmark
+	public double scroll() {
+		this.scroll += this.step;
+		if (this.scroll > this.list.getMaxScroll())
+			this.scroll = 0;
+		this.list.setScrollAmount(this.scroll);
+		return this.list.getScrollAmount();
+	}
+
+	@Benchmark
+	public double smoothScroll() {
+		this.scroll += 1;
+		if (this.scroll > this.list.getMaxScroll())
+			this.scroll = 0;
+		this.list.setScrollAmount(this.scroll);
+		return this.list.getScrollAmount();
+	}
+
+	@Benchmark
+	public int getMaxScroll() {
+		return this.list.getMaxScroll();
+	}
+
+	static class BenchmarkList extends SpruceEntryListWidget<BenchmarkEntry> {
+		BenchmarkList(int entries) {
+			super(Position.origin(), 320, 240, 4, BenchmarkEntry.class);
+			var newEntries = new ArrayList<BenchmarkEntry>(entries);
+			for (int i = 0; i < entries; i++) {
+				newEntries.add(new BenchmarkEntry());
+			}
+			this.addEntries(newEntries);
+		}
+	}
+
+	static class BenchmarkEntry extends SpruceEntryListWidget.Entry {
+		static final int HEIGHT = 20;
+
+		BenchmarkEntry() {
+			this.width = 300;
+			this.height = HEIGHT;
+		}
+
+		@Override
+		protected void renderWidget(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+		}
+	}
+}
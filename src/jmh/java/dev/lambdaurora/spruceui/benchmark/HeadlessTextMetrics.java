@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark;
+
+import dev.lambdaurora.spruceui.util.TextMetrics;
+
+/**
+ * Represents a stand-in for the text renderer metrics usable without a client, every character being as wide as the average vanilla glyph.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class HeadlessTextMetrics implements TextMetrics {
+	public static final int FONT_HEIGHT = 9;
+	public static final int CHAR_WIDTH = 6;
+	private static final HeadlessTextMetrics INSTANCE = new HeadlessTextMetrics();
+
+	private HeadlessTextMetrics() {
+	}
+
+	/**
+	 * Replaces the current text metrics with the headless ones.
+	 */
+	public static void install() {
+		TextMetrics.set(INSTANCE);
+	}
+
+	@Override
+	public int getFontHeight() {
+		return FONT_HEIGHT;
+	}
+
+	@Override
+	public int getWidth(String text) {
+		int width = 0;
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) != '\n')
+				width += CHAR_WIDTH;
+		}
+		return width;
+	}
+
+	@Override
+	public String trimToWidth(String text, int width, boolean backwards) {
+		int length = Math.min(text.length(), Math.max(0, width) / CHAR_WIDTH);
+		return backwards ? text.substring(text.length() - length) : text.substring(0, length);
+	}
+
+	@Override
+	public void invalidate() {
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark;
+
+import dev.lambdaurora.spruceui.util.MultilineText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the wrapping of {@link MultilineText}.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultilineTextBenchmark {
+	@Param({"1000", "10000", "100000"})
+	public int length;
+
+	@Param({"200"})
+	public int width;
+
+	private String text;
+	private MultilineText multilineText;
+	private int middle;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		HeadlessTextMetrics.install();
+		this.text = BenchmarkTexts.generate(this.length);
+		this.multilineText = new MultilineText(this.width, this.text);
+		this.middle = this.length / 2;
+	}
+
+	@Benchmark
+	public Collection<? extends String> wrap() {
+		return MultilineText.wrap(this.text, this.width);
+	}
+
+	@Benchmark
+	public MultilineText recompute() {
+		this.multilineText.recompute();
+		return this.multilineText;
+	}
+
+	@Benchmark
+	public MultilineText insertAndDelete() {
+		this.multilineText.insert(this.middle, "x");
+		this.multilineText.delete(this.middle, this.middle + 1);
+		return this.multilineText;
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark;
+
+
+import dev.lambdaurora.spruceui.Position;
+import dev.lambdaurora.spruceui.navigation.NavigationDirection;
+import dev.lambdaurora.spruceui.navigation.NavigationUtils;
+import dev.lambdaurora.spruceui.widget.AbstractSpruceWidget;
+import net.minecraft.client.util.math.MatrixStack;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the focus navigation of {@link NavigationUtils#tryNavigate(NavigationDirection, boolean, List, dev.lambdaurora.spruceui.widget.SpruceWidget, java.util.function.Consumer, boolean)}.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NavigationBenchmark {
+	@Param({"10", "100", "1000"})
+	public int widgets;
+
+	private final List<BenchmarkWidget> children = new ArrayList<>();
+	private final List<BenchmarkWidget> hiddenChildren = new ArrayList<>();
+	private @Nullable BenchmarkWidget focused;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		for (int i = 0; i < this.widgets; i++) {
+			this.children.add(new BenchmarkWidget());
+
+			// Only the last widget can be focused, the navigation has to go through all the others.
+			var hidden = new BenchmarkWidget();
+			hidden.setVisible(i == this.widgets - 1);
+			this.hiddenChildren.add(hidden);
+		}
+	}
+
+	@Benchmark
+	public boolean step() {
+		// Once the end of the list is reached the focus is cleared, and the next step starts again from the first widget.
+		return NavigationUtils.tryNavigate(NavigationDirection.DOWN, false, this.children, this.focused, this::setFocused, false);
+	}
+
+	@Benchmark
+	public boolean skipHidden() {
+		var last = this.hiddenChildren.get(this.widgets - 1);
+		last.setFocused(false);
+		return NavigationUtils.tryNavigate(NavigationDirection.DOWN, false, this.hiddenChildren, null, widget -> {}, false);
+	}
+
+	private void setFocused(@Nullable BenchmarkWidget focused) {
+		this.focused = focused;
+	}
+
+	static class BenchmarkWidget extends AbstractSpruceWidget {
+		BenchmarkWidget() {
+			super(Position.origin());
+			this.width = 20;
+			this.height = 20;
+		}
+
+		@Override
+		protected void renderWidget(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+		}
+	}
+}
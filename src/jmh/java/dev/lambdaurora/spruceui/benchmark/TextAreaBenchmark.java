@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark;
+
+import dev.lambdaurora.spruceui.Position;
+import dev.lambdaurora.spruceui.widget.text.SpruceTextAreaWidget;
+import net.minecraft.text.Text;
+import org.lwjgl.glfw.GLFW;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks typing and erasing characters in a {@link SpruceTextAreaWidget}.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextAreaBenchmark {
+	@Param({"1000", "10000", "100000"})
+	public int documentSize;
+
+	private SpruceTextAreaWidget textArea;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		HeadlessTextMetrics.install();
+		this.textArea = new SpruceTextAreaWidget(Position.origin(), 320, 240, Text.empty());
+		String text = BenchmarkTexts.generate(this.documentSize);
+		// Writes the first half in front of the second half, which leaves the cursor in the middle of the document
+		// without going through the arrow keys, as those query the window.
+		this.textArea.setText(text.substring(this.documentSize / 2));
+		this.textArea.setCursorToStart();
+		this.textArea.write(text.substring(0, this.documentSize / 2));
+		this.textArea.setFocused(true);
+	}
+
+	@Benchmark
+	public SpruceTextAreaWidget typeAndErase() {
+		this.textArea.charTyped('x', 0);
+		this.textArea.keyPressed(GLFW.GLFW_KEY_BACKSPACE, 0, 0);
+		return this.textArea;
+	}
+
+	@Benchmark
+	public SpruceTextAreaWidget writeAndErase() {
+		this.textArea.write("lorem ipsum ");
+		for (int i = 0; i < 12; i++)
+			this.textArea.keyPressed(GLFW.GLFW_KEY_BACKSPACE, 0, 0);
+		return this.textArea;
+	}
+
+	@Benchmark
+	public SpruceTextAreaWidget newLineAndErase() {
+		this.textArea.keyPressed(GLFW.GLFW_KEY_ENTER, 0, 0);
+		this.textArea.keyPressed(GLFW.GLFW_KEY_BACKSPACE, 0, 0);
+		return this.textArea;
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark.harness;
+
+import dev.lambdaurora.spruceui.Position;
+import dev.lambdaurora.spruceui.benchmark.BenchmarkTexts;
+import dev.lambdaurora.spruceui.navigation.NavigationDirection;
+import dev.lambdaurora.spruceui.option.SpruceBooleanOption;
+import dev.lambdaurora.spruceui.option.SpruceDoubleOption;
+import dev.lambdaurora.spruceui.widget.container.SpruceOptionListWidget;
+import dev.lambdaurora.spruceui.widget.text.SpruceTextAreaWidget;
+import net.minecraft.text.Text;
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * Runs the headless harness scenarios and prints their reports.
+ * <p>
+ * Usage: {@code HarnessMain [frames]}, the frames defaulting to {@value #DEFAULT_FRAMES}.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class HarnessMain {
+	private static final int DEFAULT_FRAMES = 10000;
+	private static final int PROFILER_DEPTH = 3;
+
+	private HarnessMain() {
+		throw new UnsupportedOperationException("HarnessMain only contains static definitions.");
+	}
+
+	public static void main(String[] args) {
+		int frames = args.length == 0 ? DEFAULT_FRAMES : Integer.parseInt(args[0]);
+		HeadlessEnvironment.install();
+
+		System.out.println("== Option list, scrolling ==");
+		var options = createOptionList(1000);
+		new WidgetHarness<>(options)
+				.setScript(InputEvent.scroll(160, 120, -1), InputEvent.scroll(160, 120, -1), InputEvent.scroll(160, 120, -1),
+						InputEvent.scroll(160, 120, 3))
+				.run(frames / 10, frames)
+				.print(System.out, PROFILER_DEPTH);
+
+		System.out.println("== Option list, navigating ==");
+		new WidgetHarness<>(createOptionList(1000))
+				.setScript(InputEvent.navigate(NavigationDirection.DOWN, true))
+				.run(frames / 10, frames)
+				.print(System.out, PROFILER_DEPTH);
+
+		System.out.println("== Text area, typing ==");
+		var textArea = new SpruceTextAreaWidget(Position.origin(), 320, 240, Text.empty());
+		textArea.setText(BenchmarkTexts.generate(10000));
+		textArea.setFocused(true);
+		new WidgetHarness<>(textArea)
+				.setScript(InputEvent.character('l'), InputEvent.character('o'), InputEvent.character('r'), InputEvent.character('e'),
+						InputEvent.character('m'), InputEvent.key(GLFW.GLFW_KEY_ENTER), InputEvent.key(GLFW.GLFW_KEY_BACKSPACE),
+						InputEvent.key(GLFW.GLFW_KEY_BACKSPACE), InputEvent.key(GLFW.GLFW_KEY_BACKSPACE),
+						InputEvent.key(GLFW.GLFW_KEY_BACKSPACE), InputEvent.key(GLFW.GLFW_KEY_BACKSPACE),
+						InputEvent.key(GLFW.GLFW_KEY_BACKSPACE))
+				.run(frames / 10, frames)
+				.print(System.out, PROFILER_DEPTH);
+	}
+
+	private static SpruceOptionListWidget createOptionList(int options) {
+		var list = new SpruceOptionListWidget(Position.origin(), 320, 240);
+		var values = new boolean[options];
+		var doubles = new double[options];
+		for (int i = 0; i < options; i += 2) {
+			int index = i;
+			list.addOptionEntry(new SpruceBooleanOption("harness.option." + i, () -> values[index], value -> values[index] = value, null),
+					new SpruceDoubleOption("harness.option." + (i + 1), 0, 100, 1, () -> doubles[index], value -> doubles[index] = value,
+							option -> Text.literal(String.valueOf(option.get())), null));
+		}
+		return list;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark.harness;
+
+
+import dev.lambdaurora.spruceui.profiler.ProfilerNode;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Represents the measurements of a {@link WidgetHarness} run.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class HarnessReport {
+	private final int frames;
+	private final long elapsedNanos;
+	private final long allocatedBytes;
+	private final long[][] timings;
+	private final boolean rendered;
+	private final long drawCalls;
+	private final ProfilerNode profilerRoot;
+
+	HarnessReport(int frames, long elapsedNanos, long allocatedBytes, long[][] timings, boolean rendered, long drawCalls,
+			ProfilerNode profilerRoot) {
+		this.frames = frames;
+		this.elapsedNanos = elapsedNanos;
+		this.allocatedBytes = allocatedBytes;
+		this.timings = timings;
+		this.rendered = rendered;
+		this.drawCalls = drawCalls;
+		this.profilerRoot = profilerRoot;
+		for (var phaseTimings : this.timings)
+			Arrays.sort(phaseTimings);
+	}
+
+	public int getFrames() {
+		return this.frames;
+	}
+
+	public long getElapsedNanos() {
+		return this.elapsedNanos;
+	}
+
+	/**
+	 * Returns whether the frames rendered the target, the render phase timings being zero otherwise.
+	 *
+	 * @return {@code true} if the frames rendered the target, else {@code false}
+	 */
+	public boolean hasRendered() {
+		return this.rendered;
+	}
+
+	public double getFramesPerSecond() {
+		return this.frames * 1e9 / Math.max(1, this.elapsedNanos);
+	}
+
+	/**
+	 * Returns the number of bytes allocated per frame by the harness thread.
+	 *
+	 * @return the bytes per frame, or {@code -1} if the JVM can't measure allocations
+	 */
+	public double getAllocatedBytesPerFrame() {
+		return this.allocatedBytes < 0 ? -1 : (double) this.allocatedBytes / this.frames;
+	}
+
+	/**
+	 * Returns the number of draw calls issued per frame by the render backend.
+	 *
+	 * @return the draw calls per frame, or {@code -1} if the frames didn't render or the render backend doesn't count its draw calls
+	 */
+	public double getDrawCallsPerFrame() {
+		return this.drawCalls < 0 ? -1 : (double) this.drawCalls / this.frames;
+	}
+
+	public double getMeanNanos(Phase phase) {
+		return (double) Arrays.stream(this.timings[phase.ordinal()]).sum() / this.frames;
+	}
+
+	/**
+	 * Returns the time spent in the given phase per frame at the given percentile.
+	 *
+	 * @param phase the phase
+	 * @param percentile the percentile, between 0 and 1
+	 * @return the time in nanoseconds
+	 */
+	public long getPercentileNanos(Phase phase, double percentile) {
+		var phaseTimings = this.timings[phase.ordinal()];
+		return phaseTimings[(int) Math.round(percentile * (phaseTimings.length - 1))];
+	}
+
+	/**
+	 * Returns the root of the profiler tree of the measured frames, giving the timings of each widget.
+	 *
+	 * @return the root node
+	 */
+	public ProfilerNode getProfilerRoot() {
+		return this.profilerRoot;
+	}
+
+	/**
+	 * Prints this report, the profiler tree being limited to the given depth.
+	 * <p>
+	 * If the frames didn't render the target, the render metrics are left out of the report.
+	 *
+	 * @param out the stream to print to
+	 * @param maxDepth the maximum depth of the printed profiler nodes
+	 */
+	public void print(PrintStream out, int maxDepth) {
+		if (this.rendered) {
+			out.printf("%d frames, %.1f frames/s, %.0f bytes/frame, %.1f draw calls/frame%n", this.frames, this.getFramesPerSecond(),
+					this.getAllocatedBytesPerFrame(), this.getDrawCallsPerFrame());
+		} else {
+			out.printf("%d frames, %.1f updates/s, %.0f bytes/frame%n", this.frames, this.getFramesPerSecond(),
+					this.getAllocatedBytesPerFrame());
+			out.println("  Rendering disabled: screens and the render path were not measured, these aren't frame times.");
+		}
+		for (var phase : Phase.values()) {
+			if (phase == Phase.RENDER && !this.rendered)
+				continue;
+			out.printf("  %-8s mean %8.0f ns, p50 %8d ns, p99 %8d ns%n", phase.getName(), this.getMeanNanos(phase),
+					this.getPercentileNanos(phase, .5), this.getPercentileNanos(phase, .99));
+		}
+		for (var child : this.profilerRoot.getChildren()) {
+			printNode(out, child, 1, maxDepth);
+		}
+	}
+
+	private static void printNode(PrintStream out, ProfilerNode node, int depth, int maxDepth) {
+		if (depth > maxDepth)
+			return;
+
+		out.printf("%s%s: %d calls, p50 %d ns/frame, p99 %d ns/frame%n", "  ".repeat(depth), node.getName(), node.getCalls(),
+				node.getFramePercentile(.5), node.getFramePercentile(.99));
+		for (var child : node.getChildren()) {
+			printNode(out, child, depth + 1, maxDepth);
+		}
+	}
+
+	/**
+	 * Represents a phase of a harness frame.
+	 */
+	public enum Phase {
+		INPUT("input"),
+		TICK("tick"),
+		RENDER("render");
+
+		private final String name;
+
+		Phase(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark.harness;
+
+
+import dev.lambdaurora.spruceui.benchmark.HeadlessTextMetrics;
+import dev.lambdaurora.spruceui.profiler.RenderMetrics;
+import dev.lambdaurora.spruceui.profiler.WidgetProfiler;
+import dev.lambdaurora.spruceui.render.RecordingRenderBackend;
+import dev.lambdaurora.spruceui.render.RenderBackend;
+import dev.lambdaurora.spruceui.render.RenderStateTracker;
+import dev.lambdaurora.spruceui.util.ScissorManager;
+import net.minecraft.client.MinecraftClient;
+
+/**
+ * Represents the environment widgets run in without a window, with stubbed text metrics and a render backend only counting draws.
+ * <p>
+ * No client exists in this environment: widgets are built with a {@code null} client,
+ * so the phases going through the vanilla renderers or the client, like rendering or playing sounds, can't be driven.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class HeadlessEnvironment {
+	private HeadlessEnvironment() {
+		throw new UnsupportedOperationException("HeadlessEnvironment only contains static definitions.");
+	}
+
+	/**
+	 * Returns whether the widgets run without a client.
+	 *
+	 * @return {@code true} if no client exists, else {@code false}
+	 */
+	public static boolean isHeadless() {
+		return MinecraftClient.getInstance() == null;
+	}
+
+	/**
+	 * Installs the headless text metrics and render backend.
+	 *
+	 * @return the installed render backend
+	 */
+	public static RecordingRenderBackend install() {
+		HeadlessTextMetrics.install();
+		var backend = RecordingRenderBackend.headless();
+		RenderBackend.set(backend);
+		return backend;
+	}
+
+	/**
+	 * Starts a frame, as done by SpruceUI at the start of each game frame.
+	 */
+	public static void startFrame() {
+		RenderStateTracker.startFrame();
+		ScissorManager.startFrame();
+		WidgetProfiler.startFrame();
+		RenderMetrics.startFrame();
+	}
+}
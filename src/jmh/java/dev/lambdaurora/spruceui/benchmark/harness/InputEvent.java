@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark.harness;
+
+
+import dev.lambdaurora.spruceui.navigation.NavigationDirection;
+import dev.lambdaurora.spruceui.navigation.NavigationUtils;
+import dev.lambdaurora.spruceui.widget.SpruceElement;
+import net.minecraft.client.gui.Element;
+
+/**
+ * Represents a synthetic input event dispatched by the {@link WidgetHarness} to its target.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@FunctionalInterface
+public interface InputEvent {
+	/**
+	 * An event doing nothing, to leave frames without input.
+	 */
+	InputEvent NONE = target -> {
+	};
+
+	/**
+	 * Dispatches this event to the given target.
+	 *
+	 * @param target the target
+	 */
+	void dispatch(Element target);
+
+	/**
+	 * Returns the X-coordinate of the mouse after this event.
+	 *
+	 * @param mouseX the X-coordinate of the mouse before this event
+	 * @return the X-coordinate of the mouse
+	 */
+	default double getMouseX(double mouseX) {
+		return mouseX;
+	}
+
+	/**
+	 * Returns the Y-coordinate of the mouse after this event.
+	 *
+	 * @param mouseY the Y-coordinate of the mouse before this event
+	 * @return the Y-coordinate of the mouse
+	 */
+	default double getMouseY(double mouseY) {
+		return mouseY;
+	}
+
+	static InputEvent mouseMove(double mouseX, double mouseY) {
+		return new MouseEvent(mouseX, mouseY) {
+			@Override
+			public void dispatch(Element target) {
+				target.mouseMoved(this.mouseX, this.mouseY);
+			}
+		};
+	}
+
+	/**
+	 * Returns an event pressing then releasing a mouse button.
+	 *
+	 * @param mouseX the X-coordinate of the mouse
+	 * @param mouseY the Y-coordinate of the mouse
+	 * @param button the mouse button
+	 * @return the event
+	 */
+	static InputEvent click(double mouseX, double mouseY, int button) {
+		return new MouseEvent(mouseX, mouseY) {
+			@Override
+			public void dispatch(Element target) {
+				target.mouseClicked(this.mouseX, this.mouseY, button);
+				target.mouseReleased(this.mouseX, this.mouseY, button);
+			}
+		};
+	}
+
+	static InputEvent scroll(double mouseX, double mouseY, double amount) {
+		return new MouseEvent(mouseX, mouseY) {
+			@Override
+			public void dispatch(Element target) {
+				target.mouseScrolled(this.mouseX, this.mouseY, amount);
+			}
+		};
+	}
+
+	/**
+	 * Returns an event pressing then releasing a key.
+	 *
+	 * @param keyCode the GLFW key code
+	 * @return the event
+	 */
+	static InputEvent key(int keyCode) {
+		return target -> {
+			target.keyPressed(keyCode, 0, 0);
+			target.keyReleased(keyCode, 0, 0);
+		};
+	}
+
+	static InputEvent character(char chr) {
+		return target -> target.charTyped(chr, 0);
+	}
+
+	/**
+	 * Returns an event navigating in the given direction, the target must be a {@link SpruceElement}.
+	 *
+	 * @param direction the direction of the navigation
+	 * @param tab {@code true} if the navigation is triggered by the tab key, else {@code false}
+	 * @return the event
+	 */
+	static InputEvent navigate(NavigationDirection direction, boolean tab) {
+		return target -> NavigationUtils.navigate((SpruceElement) target, direction, tab);
+	}
+
+	abstract class MouseEvent implements InputEvent {
+		protected final double mouseX;
+		protected final double mouseY;
+
+		MouseEvent(double mouseX, double mouseY) {
+			this.mouseX = mouseX;
+			this.mouseY = mouseY;
+		}
+
+		@Override
+		public double getMouseX(double mouseX) {
+			return this.mouseX;
+		}
+
+		@Override
+		public double getMouseY(double mouseY) {
+			return this.mouseY;
+		}
+	}
+}
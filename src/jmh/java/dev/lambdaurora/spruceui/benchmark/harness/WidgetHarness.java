@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.benchmark.harness;
+
+
+import dev.lambdaurora.spruceui.profiler.WidgetProfiler;
+import dev.lambdaurora.spruceui.render.RecordingRenderBackend;
+import dev.lambdaurora.spruceui.render.RenderBackend;
+import net.minecraft.client.gui.Drawable;
+import net.minecraft.client.gui.Element;
+import net.minecraft.client.util.math.MatrixStack;
+
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+
+/**
+ * Represents a harness driving synthetic frames through a screen or a widget tree, and measuring them.
+ * <p>
+ * Each frame dispatches the next input event of the script, ticks the target, then renders it if rendering is enabled.
+ * The harness reports the frames per second, the allocations per frame and the timings of each phase,
+ * along with the {@link WidgetProfiler} tree of the measured frames.
+ * <p>
+ * Without a client, set up by {@link HeadlessEnvironment#install()}, rendering is disabled,
+ * only the input and tick phases are driven, and the report leaves the render metrics out.
+ *
+ * @param <T> the type of the target
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public class WidgetHarness<T extends Element & Drawable> {
+	private static final com.sun.management.ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+			&& bean.isThreadAllocatedMemorySupported() ? bean : null;
+
+	private final T target;
+	private Runnable ticker = () -> {
+	};
+	private InputEvent[] script = {InputEvent.NONE};
+	private boolean render = !HeadlessEnvironment.isHeadless();
+
+	private double mouseX;
+	private double mouseY;
+	private int scriptIndex;
+
+	public WidgetHarness(T target) {
+		this.target = Objects.requireNonNull(target);
+	}
+
+	public T getTarget() {
+		return this.target;
+	}
+
+	/**
+	 * Sets the action ticking the target each frame, for example {@link net.minecraft.client.gui.screen.Screen#tick()}.
+	 *
+	 * @param ticker the action
+	 * @return this harness
+	 */
+	public WidgetHarness<T> setTicker(Runnable ticker) {
+		this.ticker = Objects.requireNonNull(ticker);
+		return this;
+	}
+
+	/**
+	 * Sets the input events dispatched by the frames, one event per frame, the script being repeated until the end of the run.
+	 *
+	 * @param script the input events
+	 * @return this harness
+	 */
+	public WidgetHarness<T> setScript(InputEvent... script) {
+		if (script.length == 0)
+			throw new IllegalArgumentException("The script must have at least one event.");
+		this.script = script.clone();
+		this.scriptIndex = 0;
+		return this;
+	}
+
+	/**
+	 * Sets whether the frames render the target, which requires a client.
+	 *
+	 * @param render {@code true} to render the target, else {@code false}
+	 * @return this harness
+	 */
+	public WidgetHarness<T> setRender(boolean render) {
+		if (render && HeadlessEnvironment.isHeadless())
+			throw new IllegalStateException("Cannot render without a client.");
+		this.render = render;
+		return this;
+	}
+
+	public boolean shouldRender() {
+		return this.render;
+	}
+
+	/**
+	 * Runs the given number of frames, discarding the measurements of the warmup frames.
+	 *
+	 * @param warmupFrames the number of warmup frames
+	 * @param frames the number of measured frames
+	 * @return the report of the measured frames
+	 */
+	public HarnessReport run(int warmupFrames, int frames) {
+		if (frames <= 0)
+			throw new IllegalArgumentException("The number of measured frames must be positive.");
+
+		boolean wasProfiling = WidgetProfiler.isEnabled();
+		WidgetProfiler.setEnabled(true);
+		try {
+			var warmup = new long[HarnessReport.Phase.values().length][warmupFrames];
+			for (int i = 0; i < warmupFrames; i++) {
+				this.frame(warmup, i);
+			}
+
+			WidgetProfiler.reset();
+			// Without rendering, the draw calls recorded by the input and tick phases aren't meaningful.
+			var backend = this.render && RenderBackend.get() instanceof RecordingRenderBackend recording ? recording : null;
+			if (backend != null)
+				backend.resetCounters();
+
+			var timings = new long[HarnessReport.Phase.values().length][frames];
+			long allocatedBytes = getAllocatedBytes();
+			long start = System.nanoTime();
+			for (int i = 0; i < frames; i++) {
+				this.frame(timings, i);
+			}
+			long elapsedNanos = System.nanoTime() - start;
+			allocatedBytes = getAllocatedBytes() - allocatedBytes;
+			// Commits the timings of the last frame to the profiler tree.
+			WidgetProfiler.startFrame();
+
+			return new HarnessReport(frames, elapsedNanos, THREAD_BEAN == null ? -1 : allocatedBytes, timings, this.render,
+					backend == null ? -1 : backend.getDrawCalls(), WidgetProfiler.getRoot());
+		} finally {
+			WidgetProfiler.setEnabled(wasProfiling);
+		}
+	}
+
+	private void frame(long[][] timings, int frame) {
+		HeadlessEnvironment.startFrame();
+
+		long time = System.nanoTime();
+		var event = this.script[this.scriptIndex];
+		this.scriptIndex = (this.scriptIndex + 1) % this.script.length;
+		event.dispatch(this.target);
+		this.mouseX = event.getMouseX(this.mouseX);
+		this.mouseY = event.getMouseY(this.mouseY);
+		time = this.recordPhase(timings, HarnessReport.Phase.INPUT, frame, time);
+
+		this.ticker.run();
+		time = this.recordPhase(timings, HarnessReport.Phase.TICK, frame, time);
+
+		if (this.render) {
+			this.target.render(new MatrixStack(), (int) this.mouseX, (int) this.mouseY, 1.f);
+			RenderBackend.get().flush();
+			this.recordPhase(timings, HarnessReport.Phase.RENDER, frame, time);
+		}
+	}
+
+	private long recordPhase(long[][] timings, HarnessReport.Phase phase, int frame, long start) {
+		long end = System.nanoTime();
+		timings[phase.ordinal()][frame] = end - start;
+		return end;
+	}
+
+	private static long getAllocatedBytes() {
+		return THREAD_BEAN == null ? 0 : THREAD_BEAN.getCurrentThreadAllocatedBytes();
+	}
+}
@@ -10,20 +10,40 @@
 package dev.lambdaurora.spruceui;
 
 import dev.lambdaurora.spruceui.widget.SpruceWidget;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * Represents a position.
+ * <p>
+ * The absolute coordinates are cached, querying a position which didn't change doesn't walk its anchor chain.
+ * A position anchored to another position or to a widget registers itself as a dependent of the anchor position when resolved,
+ * changing the relative coordinates or the anchor of a position then marks it and its dependents as dirty,
+ * so only the positions anchored to what moved are resolved again.
+ * Other anchors, such as screens, are read when the position is resolved and must be
+ * {@linkplain #invalidate() invalidated} manually if they move.
  *
  * @author LambdAurora
- * @version 3.0.0
+ * @version 3.3.1
  * @since 1.4.0
  */
 public final class Position implements SprucePositioned {
+	private static final SprucePositioned ORIGIN = new SprucePositioned() {
+	};
+
 	private SprucePositioned anchor;
 	private int x = 0;
 	private int y = 0;
+	private boolean dirty = true;
+	private int cachedX;
+	private int cachedY;
+	private @Nullable List<Runnable> changeListeners;
+	// The positions which resolved their coordinates against this position since it was last invalidated.
+	private @Nullable List<Position> dependents;
+	private @Nullable Position registeredAnchor;
 
 	protected Position(SprucePositioned anchor) {
 		this.anchor = anchor;
@@ -55,8 +75,7 @@ public final class Position implements SprucePositioned {
 	 * @return the origin position
 	 */
 	public static Position origin() {
-		return new Position(new SprucePositioned() {
-		});
+		return new Position(ORIGIN);
 	}
 
 	/**
@@ -74,17 +93,95 @@ public final class Position implements SprucePositioned {
 	 * @param anchor the anchor
 	 */
 	public void setAnchor(SprucePositioned anchor) {
-		this.anchor = anchor;
+		if (this.anchor != anchor) {
+			this.anchor = anchor;
+			this.invalidate();
+		}
+	}
+
+	/**
+	 * Adds a listener called whenever the coordinates of this position are invalidated,
+	 * either by a change of this position or by a change in its anchor chain.
+	 * <p>
+	 * Parent widgets use it to keep the bounds they index for their children up to date.
+	 * Adding a listener which is already present does nothing.
+	 *
+	 * @param listener the listener to add
+	 * @since 3.3.1
+	 */
+	public void addChangeListener(Runnable listener) {
+		if (this.changeListeners == null)
+			this.changeListeners = new ArrayList<>(1);
+		if (!this.changeListeners.contains(listener))
+			this.changeListeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener added with {@link #addChangeListener(Runnable)}.
+	 *
+	 * @param listener the listener to remove
+	 * @since 3.3.1
+	 */
+	public void removeChangeListener(Runnable listener) {
+		if (this.changeListeners != null)
+			this.changeListeners.remove(listener);
+	}
+
+	/**
+	 * Invalidates the cached coordinates of this position and of the positions depending on it,
+	 * to call if an anchor which isn't a position or a widget moved.
+	 *
+	 * @since 3.3.1
+	 */
+	public void invalidate() {
+		this.dirty = true;
+		if (this.changeListeners != null) {
+			for (int i = 0; i < this.changeListeners.size(); i++)
+				this.changeListeners.get(i).run();
+		}
+		if (this.dependents != null && !this.dependents.isEmpty()) {
+			var dependents = this.dependents;
+			this.dependents = null;
+			for (var dependent : dependents) {
+				// Skips the positions which have been anchored elsewhere since they registered.
+				if (dependent.registeredAnchor == this) {
+					dependent.registeredAnchor = null;
+					dependent.invalidate();
+				}
+			}
+		}
 	}
 
 	@Override
 	public int getX() {
-		return this.anchor.getX() + this.x;
+		if (this.dirty)
+			this.resolve();
+		return this.cachedX;
 	}
 
 	@Override
 	public int getY() {
-		return this.anchor.getY() + this.y;
+		if (this.dirty)
+			this.resolve();
+		return this.cachedY;
+	}
+
+	/**
+	 * Resolves the absolute coordinates through the anchor and registers this position as a dependent of the anchor position.
+	 */
+	private void resolve() {
+		var anchorPosition = this.anchor instanceof Position position ? position
+				: this.anchor instanceof SpruceWidget widget ? widget.getPosition() : null;
+		if (anchorPosition != null && this.registeredAnchor != anchorPosition) {
+			if (anchorPosition.dependents == null)
+				anchorPosition.dependents = new ArrayList<>();
+			anchorPosition.dependents.add(this);
+			this.registeredAnchor = anchorPosition;
+		}
+
+		this.cachedX = this.anchor.getX() + this.x;
+		this.cachedY = this.anchor.getY() + this.y;
+		this.dirty = false;
 	}
 
 	public Position move(int x, int y) {
@@ -108,7 +205,10 @@ public final class Position implements SprucePositioned {
 	 * @param x the relative X
 	 */
 	public void setRelativeX(int x) {
-		this.x = x;
+		if (this.x != x) {
+			this.x = x;
+			this.invalidate();
+		}
 	}
 
 	/**
@@ -126,7 +226,10 @@ public final class Position implements SprucePositioned {
 	 * @param y the relative Y
 	 */
 	public void setRelativeY(int y) {
-		this.y = y;
+		if (this.y != y) {
+			this.y = y;
+			this.invalidate();
+		}
 	}
 
 	/**
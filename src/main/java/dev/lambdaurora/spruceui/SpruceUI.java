@@ -1,6 +1,19 @@
 package dev.lambdaurora.spruceui;
 
+import dev.lambdaurora.spruceui.event.ResolutionChangeCallback;
+import dev.lambdaurora.spruceui.profiler.RenderMetrics;
+import dev.lambdaurora.spruceui.profiler.WidgetProfiler;
+import dev.lambdaurora.spruceui.render.RenderStateTracker;
+import dev.lambdaurora.spruceui.render.SpriteAtlas;
+import dev.lambdaurora.spruceui.util.ScissorManager;
+import dev.lambdaurora.spruceui.util.TextMetrics;
+import dev.lambdaurora.spruceui.widget.SpruceCheckboxWidget;
+import dev.lambdaurora.spruceui.widget.SpruceToggleSwitch;
+import net.minecraft.client.gui.widget.ClickableWidget;
+import net.minecraft.resource.SynchronousResourceReloader;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fml.IExtensionPoint;
 import net.minecraftforge.fml.ModLoadingContext;
@@ -19,7 +32,9 @@ public class SpruceUI {
     public SpruceUI() {
         IEventBus modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
         modEventBus.addListener(this::onInitializeClient);
+        modEventBus.addListener(this::onRegisterReloadListeners);
         MinecraftForge.EVENT_BUS.register(this);
+        MinecraftForge.EVENT_BUS.addListener(this::onRenderTick);
 
         ModLoadingContext.get().registerExtensionPoint(IExtensionPoint.DisplayTest.class, () -> new IExtensionPoint.DisplayTest(() -> NetworkConstants.IGNORESERVERONLY, (a, b) -> true));
 
@@ -27,5 +42,33 @@ public class SpruceUI {
 
     private void onInitializeClient(FMLClientSetupEvent event) {
         LOGGER.info("ObsidianUI is loaded!");
+        // Forcing the unicode font goes through a resolution change.
+        ResolutionChangeCallback.EVENT.register(client -> {
+            TextMetrics.get().invalidate();
+            Tooltip.invalidateCache();
+            ScissorManager.invalidate();
+        });
+    }
+
+    private void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
+        // The atlas is only stitched on reload, the built-in textures are registered ahead of the first one.
+        SpriteAtlas.get().register(ClickableWidget.WIDGETS_TEXTURE);
+        SpriteAtlas.get().register(SpruceCheckboxWidget.TEXTURE);
+        SpriteAtlas.get().register(SpruceToggleSwitch.TEXTURE);
+        event.registerReloadListener((SynchronousResourceReloader) manager -> {
+            TextMetrics.get().invalidate();
+            Tooltip.invalidateCache();
+            RenderStateTracker.invalidate();
+            SpriteAtlas.get().reload(manager);
+        });
+    }
+
+    private void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            RenderStateTracker.startFrame();
+            ScissorManager.startFrame();
+            WidgetProfiler.startFrame();
+            RenderMetrics.startFrame();
+        }
     }
 }
@@ -10,7 +10,10 @@
 package dev.lambdaurora.spruceui;
 
 import com.google.common.collect.Queues;
+import dev.lambdaurora.spruceui.profiler.jfr.TooltipWrapEvent;
 import dev.lambdaurora.spruceui.widget.SpruceWidget;
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenCustomHashMap;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawableHelper;
 import net.minecraft.client.gui.screen.Screen;
@@ -18,6 +21,7 @@ import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.OrderedText;
 import net.minecraft.text.StringVisitable;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Queue;
@@ -26,13 +30,33 @@ import java.util.function.LongConsumer;
 
 /**
  * Represents a tooltip.
+ * <p>
+ * The tooltips of widgets are wrapped once per text and width: the wrapped lines are cached,
+ * the texts being compared by identity, and invalidated on resource reload, which includes language changes.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 1.0.0
  */
 public class Tooltip extends DrawableHelper implements SprucePositioned {
+	/**
+	 * The number of texts kept in the wrap cache, the least recently used ones are evicted first.
+	 */
+	public static final int MAX_CACHED_TEXTS = 256;
+	private static final int MAX_CACHED_WIDTHS = 4;
 	private static final Queue<Tooltip> TOOLTIPS = Queues.newConcurrentLinkedQueue();
+	private static final Object2ObjectLinkedOpenCustomHashMap<StringVisitable, WrappedText> WRAP_CACHE =
+			new Object2ObjectLinkedOpenCustomHashMap<>(new Hash.Strategy<>() {
+				@Override
+				public int hashCode(StringVisitable text) {
+					return System.identityHashCode(text);
+				}
+
+				@Override
+				public boolean equals(StringVisitable a, StringVisitable b) {
+					return a == b;
+				}
+			});
 	private static boolean delayed = false;
 	private final int x;
 	private final int y;
@@ -43,7 +67,7 @@ public class Tooltip extends DrawableHelper implements SprucePositioned {
 	}
 
 	public Tooltip(int x, int y, StringVisitable tooltip, int parentWidth) {
-		this(x, y, MinecraftClient.getInstance().textRenderer.wrapLines(tooltip, Math.max(parentWidth * 2 / 3, 200)));
+		this(x, y, wrapLines(tooltip, Math.max(parentWidth * 2 / 3, 200)));
 	}
 
 	public Tooltip(int x, int y, List<OrderedText> tooltip) {
@@ -64,6 +88,23 @@ public class Tooltip extends DrawableHelper implements SprucePositioned {
 		return new Tooltip(x, y, tooltip);
 	}
 
+	/**
+	 * Creates a tooltip of the given text wrapped to the given width, going through the wrap cache.
+	 * <p>
+	 * The text is expected to be kept and not modified by the caller, like the tooltip of a widget.
+	 * The same tooltip instance is returned as long as the text, the width and the position stay the same.
+	 *
+	 * @param x the X coordinate of the tooltip
+	 * @param y the Y coordinate of the tooltip
+	 * @param tooltip the text of the tooltip
+	 * @param width the width to wrap the text to
+	 * @return the tooltip, which doesn't render if the text is empty
+	 * @since 3.3.1
+	 */
+	public static Tooltip createCached(int x, int y, StringVisitable tooltip, int width) {
+		return getWrappedText(tooltip, width).getTooltip(x, y);
+	}
+
 	@Override
 	public int getX() {
 		return this.x;
@@ -126,20 +167,61 @@ public class Tooltip extends DrawableHelper implements SprucePositioned {
 				if (!widget.isFocused() && !widget.isMouseHovered())
 					tooltipTicksSetter.accept(0);
 
-				if (!tooltip.getString().isEmpty() && tooltipTicks >= 45) {
-					var wrappedTooltipText = MinecraftClient.getInstance().textRenderer.wrapLines(
-							tooltip, Math.max(widget.getWidth() * 2 / 3, 200));
+				if (tooltipTicks >= 45) {
+					var wrappedTooltipText = getWrappedText(tooltip, Math.max(widget.getWidth() * 2 / 3, 200));
+					if (wrappedTooltipText.lines.isEmpty())
+						return;
+
 					if (widget.isMouseHovered())
-						create(mouseX, mouseY, wrappedTooltipText).queue();
+						wrappedTooltipText.getTooltip(mouseX, mouseY).queue();
 					else if (widget.isFocused())
-						create(widget.getX() - 12, widget.getY() + widget.getHeight() + 16,
-								wrappedTooltipText)
+						wrappedTooltipText.getTooltip(widget.getX() - 12, widget.getY() + widget.getHeight() + 16)
 								.queue();
 				}
 			});
 		}
 	}
 
+	private static List<OrderedText> wrapLines(StringVisitable text, int width) {
+		var event = new TooltipWrapEvent();
+		event.begin();
+		var lines = MinecraftClient.getInstance().textRenderer.wrapLines(text, width);
+		if (event.shouldCommit()) {
+			event.textLength = text.getString().length();
+			event.width = width;
+			event.lines = lines.size();
+			event.commit();
+		}
+		return lines;
+	}
+
+	private static WrappedText getWrappedText(StringVisitable text, int width) {
+		var first = WRAP_CACHE.getAndMoveToLast(text);
+		int widths = 0;
+		for (var wrapped = first; wrapped != null; wrapped = wrapped.next) {
+			if (wrapped.width == width)
+				return wrapped;
+			// Drops the oldest widths, the text is most likely being resized.
+			if (++widths == MAX_CACHED_WIDTHS - 1)
+				wrapped.next = null;
+		}
+
+		var wrapped = new WrappedText(width, text.getString().isEmpty() ? List.of() : wrapLines(text, width), first);
+		WRAP_CACHE.putAndMoveToLast(text, wrapped);
+		if (WRAP_CACHE.size() > MAX_CACHED_TEXTS)
+			WRAP_CACHE.removeFirst();
+		return wrapped;
+	}
+
+	/**
+	 * Clears the wrapped tooltip texts, called on resource reload and when the font changes.
+	 *
+	 * @since 3.3.1
+	 */
+	public static void invalidateCache() {
+		WRAP_CACHE.clear();
+	}
+
 	/**
 	 * Sets whether tooltip rendering is delayed or not.
 	 *
@@ -166,4 +248,23 @@ public class Tooltip extends DrawableHelper implements SprucePositioned {
 				tooltip.render(screen, matrices);
 		}
 	}
+
+	private static final class WrappedText {
+		private final int width;
+		private final List<OrderedText> lines;
+		private @Nullable WrappedText next;
+		private @Nullable Tooltip tooltip;
+
+		private WrappedText(int width, List<OrderedText> lines, @Nullable WrappedText next) {
+			this.width = width;
+			this.lines = lines;
+			this.next = next;
+		}
+
+		private Tooltip getTooltip(int x, int y) {
+			if (this.tooltip == null || this.tooltip.x != x || this.tooltip.y != y)
+				this.tooltip = new Tooltip(x, y, this.lines);
+			return this.tooltip;
+		}
+	}
 }
@@ -11,6 +11,7 @@ package dev.lambdaurora.spruceui.hud;
 
 import dev.lambdaurora.spruceui.event.OpenScreenCallback;
 import dev.lambdaurora.spruceui.event.ResolutionChangeCallback;
+import dev.lambdaurora.spruceui.profiler.jfr.HudInitEvent;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
@@ -26,7 +27,7 @@ import java.util.Optional;
  * Represents the HUD manager.
  *
  * @author LambdAurora
- * @version 3.2.0
+ * @version 3.3.1
  * @since 1.2.0
  */
 public class HudManager {
@@ -52,10 +53,18 @@ public class HudManager {
 	protected static void initAll(@NotNull MinecraftClient client, int screenWidth, int screenHeight) {
 		if (!canRenderHuds(client))
 			return;
+		var event = new HudInitEvent();
+		event.begin();
 		HUDS.forEach((id, hud) -> {
 			if (hud.isEnabled())
 				hud.init(client, screenWidth, screenHeight);
 		});
+		if (event.shouldCommit()) {
+			event.hudCount = HUDS.size();
+			event.screenWidth = screenWidth;
+			event.screenHeight = screenHeight;
+			event.commit();
+		}
 	}
 
 	/**
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.mixin;
+
+import com.mojang.blaze3d.platform.GlStateManager;
+import dev.lambdaurora.spruceui.profiler.RenderMetrics;
+import dev.lambdaurora.spruceui.render.RenderStateTracker;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Represents the injection point mirroring the states without getter into the {@link RenderStateTracker},
+ * and counting the draw calls and texture binds into the {@link RenderMetrics}.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@Mixin(value = GlStateManager.class, remap = false)
+public class GlStateManagerMixin {
+	@Inject(method = "_enableTexture", at = @At("HEAD"))
+	private static void onEnableTexture(CallbackInfo ci) {
+		RenderStateTracker.mirrorTexture(true);
+	}
+
+	@Inject(method = "_disableTexture", at = @At("HEAD"))
+	private static void onDisableTexture(CallbackInfo ci) {
+		RenderStateTracker.mirrorTexture(false);
+	}
+
+	@Inject(method = "_activeTexture", at = @At("HEAD"))
+	private static void onActiveTexture(int texture, CallbackInfo ci) {
+		RenderStateTracker.mirrorActiveTexture();
+	}
+
+	@Inject(method = "_enableBlend", at = @At("HEAD"))
+	private static void onEnableBlend(CallbackInfo ci) {
+		RenderStateTracker.mirrorBlend(true);
+	}
+
+	@Inject(method = "_disableBlend", at = @At("HEAD"))
+	private static void onDisableBlend(CallbackInfo ci) {
+		RenderStateTracker.mirrorBlend(false);
+	}
+
+	@Inject(method = "_blendFunc", at = @At("HEAD"))
+	private static void onBlendFunc(int srcFactor, int dstFactor, CallbackInfo ci) {
+		RenderStateTracker.mirrorBlendFunc(srcFactor, dstFactor, srcFactor, dstFactor);
+	}
+
+	@Inject(method = "_blendFuncSeparate", at = @At("HEAD"))
+	private static void onBlendFuncSeparate(int srcFactorRGB, int dstFactorRGB, int srcFactorAlpha, int dstFactorAlpha, CallbackInfo ci) {
+		RenderStateTracker.mirrorBlendFunc(srcFactorRGB, dstFactorRGB, srcFactorAlpha, dstFactorAlpha);
+	}
+
+	@Inject(method = "_enableColorLogicOp", at = @At("HEAD"))
+	private static void onEnableColorLogicOp(CallbackInfo ci) {
+		RenderStateTracker.mirrorColorLogicOp(true);
+	}
+
+	@Inject(method = "_disableColorLogicOp", at = @At("HEAD"))
+	private static void onDisableColorLogicOp(CallbackInfo ci) {
+		RenderStateTracker.mirrorColorLogicOp(false);
+	}
+
+	@Inject(method = "_logicOp", at = @At("HEAD"))
+	private static void onLogicOp(int op, CallbackInfo ci) {
+		RenderStateTracker.mirrorLogicOp(op);
+	}
+
+	@Inject(method = "_bindTexture", at = @At("HEAD"))
+	private static void onBindTexture(int texture, CallbackInfo ci) {
+		if (RenderMetrics.isEnabled())
+			RenderMetrics.onTextureBind();
+	}
+
+	@Inject(method = "_drawElements", at = @At("HEAD"))
+	private static void onDrawElements(int mode, int count, int type, long indices, CallbackInfo ci) {
+		if (RenderMetrics.isEnabled())
+			RenderMetrics.onDraw(count);
+	}
+}
@@ -11,6 +11,7 @@ package dev.lambdaurora.spruceui.mixin;
 
 import dev.lambdaurora.spruceui.event.OpenScreenCallback;
 import dev.lambdaurora.spruceui.event.ResolutionChangeCallback;
+import dev.lambdaurora.spruceui.profiler.jfr.OpenScreenEvent;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.Screen;
 import org.spongepowered.asm.mixin.Mixin;
@@ -22,19 +23,33 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
  * Represents the injection point for the {@link OpenScreenCallback} and {@link ResolutionChangeCallback} events.
  *
  * @author LambdAurora
- * @version 3.2.1
+ * @version 3.3.1
  * @since 1.2.0
  */
 @Mixin(MinecraftClient.class)
 public class MinecraftClientMixin {
 	@Inject(method = "setScreen", at = @At("HEAD"))
 	private void onScreenPre(Screen screen, CallbackInfo ci) {
+		var event = new OpenScreenEvent();
+		event.begin();
 		OpenScreenCallback.PRE.invoker().apply((MinecraftClient) (Object) this, screen);
+		commitOpenScreenEvent(event, screen, "pre");
 	}
 
 	@Inject(method = "setScreen", at = @At("RETURN"))
 	private void onScreenChange(Screen screen, CallbackInfo ci) {
+		var event = new OpenScreenEvent();
+		event.begin();
 		OpenScreenCallback.EVENT.invoker().apply((MinecraftClient) (Object) this, screen);
+		commitOpenScreenEvent(event, screen, "post");
+	}
+
+	private static void commitOpenScreenEvent(OpenScreenEvent event, Screen screen, String phase) {
+		if (event.shouldCommit()) {
+			event.screen = screen == null ? "null" : screen.getClass().getName();
+			event.phase = phase;
+			event.commit();
+		}
 	}
 
 	@Inject(method = "onResolutionChanged", at = @At("RETURN"))
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.mixin;
+
+import dev.lambdaurora.spruceui.profiler.jfr.ScreenInitEvent;
+import dev.lambdaurora.spruceui.widget.SpruceElement;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.screen.Screen;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Represents the injection point emitting the {@link ScreenInitEvent} of SpruceUI screens.
+ * <p>
+ * The event wraps the whole initialization, including the widgets added by the screen subclasses.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@Mixin(Screen.class)
+public abstract class ScreenMixin {
+	@Unique
+	private ScreenInitEvent spruceui$initEvent;
+
+	@Inject(method = "init(Lnet/minecraft/client/MinecraftClient;II)V", at = @At("HEAD"))
+	private void onInitPre(MinecraftClient client, int width, int height, CallbackInfo ci) {
+		if (this instanceof SpruceElement) {
+			this.spruceui$initEvent = new ScreenInitEvent();
+			this.spruceui$initEvent.begin();
+		}
+	}
+
+	@Inject(method = "init(Lnet/minecraft/client/MinecraftClient;II)V", at = @At("RETURN"))
+	private void onInitPost(MinecraftClient client, int width, int height, CallbackInfo ci) {
+		var event = this.spruceui$initEvent;
+		if (event == null)
+			return;
+
+		this.spruceui$initEvent = null;
+		if (event.shouldCommit()) {
+			var screen = (Screen) (Object) this;
+			event.screen = screen.getClass().getName();
+			event.widgetCount = screen.children().size();
+			event.width = width;
+			event.height = height;
+			event.commit();
+		}
+	}
+}
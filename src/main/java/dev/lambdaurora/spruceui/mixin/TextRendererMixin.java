@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.mixin;
+
+import dev.lambdaurora.spruceui.profiler.RenderMetrics;
+import net.minecraft.client.font.TextRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Represents the injection point counting the text draws into the {@link RenderMetrics}.
+ * <p>
+ * Every public draw method of the text renderer ends up in one of the {@code drawInternal} overloads.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@Mixin(TextRenderer.class)
+public class TextRendererMixin {
+	@Inject(method = "drawInternal*", at = @At("HEAD"))
+	private void onDrawInternal(CallbackInfoReturnable<Integer> cir) {
+		if (RenderMetrics.isEnabled())
+			RenderMetrics.onTextDraw();
+	}
+}
@@ -9,6 +9,8 @@
 
 package dev.lambdaurora.spruceui.navigation;
 
+import dev.lambdaurora.spruceui.profiler.WidgetProfiler;
+import dev.lambdaurora.spruceui.widget.SpruceElement;
 import dev.lambdaurora.spruceui.widget.SpruceWidget;
 
 import java.util.List;
@@ -20,7 +22,7 @@ import java.util.function.Supplier;
  * Utilities for handling navigation.
  *
  * @author LambdAurora
- * @version 3.0.0
+ * @version 3.3.1
  * @since 2.0.0
  */
 public final class NavigationUtils {
@@ -34,12 +36,12 @@ public final class NavigationUtils {
 		if (!tab && alwaysFocus && focused != null) {
 			int i = children.indexOf(focused);
 			if ((!direction.isLookingForward() && i == 0) || (direction.isLookingForward() && i == children.size() - 1)) {
-				boolean result = focused.onNavigation(direction, false);
+				boolean result = navigate(focused, direction, false);
 				focused.setFocused(true);
 				return result;
 			}
 		}
-		if (focused == null || !focused.onNavigation(direction, tab)) {
+		if (focused == null || !navigate(focused, direction, tab)) {
 			int i = children.indexOf(focused);
 			int next;
 			if (focused != null && i >= 0) next = i + (direction.isLookingForward() ? 1 : 0);
@@ -58,10 +60,28 @@ public final class NavigationUtils {
 				}
 
 				nextElement = nextGetter.get();
-			} while (!nextElement.onNavigation(direction, tab));
+			} while (!navigate(nextElement, direction, tab));
 
 			setFocused.accept(nextElement);
 		}
 		return true;
 	}
+
+	/**
+	 * Sends a navigation event to the given element, profiled by the {@link WidgetProfiler} if enabled.
+	 *
+	 * @param element the element
+	 * @param direction the direction of the navigation
+	 * @param tab {@code true} if the navigation was triggered by the tab key, else {@code false}
+	 * @return {@code true} if the element handled the navigation, else {@code false}
+	 */
+	public static boolean navigate(SpruceElement element, NavigationDirection direction, boolean tab) {
+		if (WidgetProfiler.isEnabled()) {
+			WidgetProfiler.push(element, WidgetProfiler.NAVIGATION);
+			boolean result = element.onNavigation(direction, tab);
+			WidgetProfiler.pop();
+			return result;
+		}
+		return element.onNavigation(direction, tab);
+	}
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.profiler;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a node of the {@link WidgetProfiler} tree, the timings of a phase of a widget class under a given path.
+ * <p>
+ * The time spent in the node during each frame is kept for the last {@link #SAMPLE_FRAMES} frames in which the node was entered,
+ * which gives the frame aggregates.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class ProfilerNode {
+	/**
+	 * The number of frames kept to compute the frame aggregates.
+	 */
+	public static final int SAMPLE_FRAMES = 1024;
+
+	private final @Nullable ProfilerNode parent;
+	private final @Nullable Class<?> owner;
+	private final String phase;
+	private final List<ProfilerNode> children = new ArrayList<>();
+
+	private long calls;
+	private long totalNanos;
+	private long frameNanos;
+	private int frameCalls;
+
+	private final long[] samples = new long[SAMPLE_FRAMES];
+	private int sampleCount;
+	private int sampleIndex;
+	private long maxFrameNanos;
+
+	ProfilerNode(@Nullable ProfilerNode parent, @Nullable Class<?> owner, String phase) {
+		this.parent = parent;
+		this.owner = owner;
+		this.phase = phase;
+	}
+
+	/**
+	 * Returns the parent node.
+	 *
+	 * @return the parent node, or {@code null} if this node is the root
+	 */
+	public @Nullable ProfilerNode getParent() {
+		return this.parent;
+	}
+
+	/**
+	 * Returns the class of the widgets profiled by this node.
+	 *
+	 * @return the widget class, or {@code null} if this node is the root
+	 */
+	public @Nullable Class<?> getOwner() {
+		return this.owner;
+	}
+
+	/**
+	 * Returns the profiled phase, for example {@link WidgetProfiler#RENDER}.
+	 *
+	 * @return the phase
+	 */
+	public String getPhase() {
+		return this.phase;
+	}
+
+	/**
+	 * Returns the name of this node, made of the simple name of the widget class and of the phase.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		if (this.owner == null)
+			return this.phase;
+		String name = this.owner.getSimpleName();
+		return (name.isEmpty() ? this.owner.getName() : name) + '#' + this.phase;
+	}
+
+	/**
+	 * Returns the path of this node, the names of the nodes from the root separated by slashes.
+	 *
+	 * @return the path
+	 */
+	public String getPath() {
+		if (this.parent == null)
+			return "";
+		String parentPath = this.parent.getPath();
+		return parentPath.isEmpty() ? this.getName() : parentPath + '/' + this.getName();
+	}
+
+	public List<ProfilerNode> getChildren() {
+		return Collections.unmodifiableList(this.children);
+	}
+
+	/**
+	 * Returns the number of times this node was entered.
+	 *
+	 * @return the number of calls
+	 */
+	public long getCalls() {
+		return this.calls;
+	}
+
+	/**
+	 * Returns the total time spent in this node.
+	 *
+	 * @return the total time in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return this.totalNanos;
+	}
+
+	/**
+	 * Returns the number of sampled frames in which this node was entered.
+	 *
+	 * @return the number of sampled frames
+	 */
+	public int getSampledFrames() {
+		return this.sampleCount;
+	}
+
+	/**
+	 * Returns the time spent in this node per frame at the given percentile, among the sampled frames.
+	 *
+	 * @param percentile the percentile, between 0 and 1
+	 * @return the time in nanoseconds
+	 */
+	public long getFramePercentile(double percentile) {
+		if (this.sampleCount == 0)
+			return 0;
+		long[] sorted = Arrays.copyOf(this.samples, this.sampleCount);
+		Arrays.sort(sorted);
+		return sorted[(int) Math.round(percentile * (this.sampleCount - 1))];
+	}
+
+	/**
+	 * Returns the maximum time spent in this node during a frame.
+	 *
+	 * @return the time in nanoseconds
+	 */
+	public long getMaxFrameNanos() {
+		return this.maxFrameNanos;
+	}
+
+	ProfilerNode getChild(Class<?> owner, String phase) {
+		// Phases are constants, and the children of a node are few, so a linear scan without allocation is enough.
+		for (int i = 0; i < this.children.size(); i++) {
+			var child = this.children.get(i);
+			if (child.owner == owner && child.phase.equals(phase))
+				return child;
+		}
+
+		var child = new ProfilerNode(this, owner, phase);
+		this.children.add(child);
+		return child;
+	}
+
+	void record(long nanos) {
+		this.calls++;
+		this.totalNanos += nanos;
+		this.frameNanos += nanos;
+		this.frameCalls++;
+	}
+
+	void endFrame() {
+		if (this.frameCalls != 0) {
+			this.samples[this.sampleIndex] = this.frameNanos;
+			this.sampleIndex = (this.sampleIndex + 1) % SAMPLE_FRAMES;
+			this.sampleCount = Math.min(this.sampleCount + 1, SAMPLE_FRAMES);
+			this.maxFrameNanos = Math.max(this.maxFrameNanos, this.frameNanos);
+			this.frameNanos = 0;
+			this.frameCalls = 0;
+		}
+
+		for (int i = 0; i < this.children.size(); i++) {
+			this.children.get(i).endFrame();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ProfilerNode{" +
+				"path='" + this.getPath() + '\'' +
+				", calls=" + this.calls +
+				", totalNanos=" + this.totalNanos +
+				", maxFrameNanos=" + this.maxFrameNanos +
+				'}';
+	}
+}
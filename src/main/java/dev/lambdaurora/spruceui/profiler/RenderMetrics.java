@@ -0,0 +1,233 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.profiler;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the per-frame render counters of SpruceUI screens and widgets.
+ * <p>
+ * Draw calls, vertices and texture binds are counted at the state manager level, text draws at the text renderer level,
+ * and are only counted while a SpruceUI screen or widget is rendering, attributed to the innermost one.
+ * Call sites check {@link #isEnabled()} before entering a scope, which keeps the counters free when disabled.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ * @see RenderMetricsHud
+ */
+public final class RenderMetrics {
+	/**
+	 * The number of frames the rolling averages are computed on.
+	 */
+	public static final int AVERAGE_FRAMES = 60;
+	private static final Counter[] COUNTERS = Counter.values();
+
+	private static boolean enabled;
+	// Counts of the current frame, then of the last frame, per owner class.
+	private static final Map<Class<?>, long[]> OWNERS = new Object2ObjectOpenHashMap<>();
+	private static long[][] scopeStack = new long[16][];
+	private static int depth;
+
+	private static final long[] frameCounts = new long[COUNTERS.length];
+	private static final long[] lastFrameCounts = new long[COUNTERS.length];
+	private static final long[][] history = new long[COUNTERS.length][AVERAGE_FRAMES];
+	private static final long[] historySums = new long[COUNTERS.length];
+	private static int historyIndex;
+	private static int historySize;
+
+	private RenderMetrics() {
+		throw new UnsupportedOperationException("RenderMetrics only contains static definitions.");
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the counters, the collected counts are cleared.
+	 *
+	 * @param enabled {@code true} to enable the counters, else {@code false}
+	 */
+	public static void setEnabled(boolean enabled) {
+		RenderMetrics.enabled = enabled;
+		OWNERS.clear();
+		Arrays.fill(scopeStack, null);
+		depth = 0;
+		Arrays.fill(frameCounts, 0);
+		Arrays.fill(lastFrameCounts, 0);
+		for (var counterHistory : history)
+			Arrays.fill(counterHistory, 0);
+		Arrays.fill(historySums, 0);
+		historyIndex = 0;
+		historySize = 0;
+	}
+
+	/**
+	 * Ends the current frame, the counts of the current frame become the counts of the last frame, called at the start of each frame.
+	 */
+	public static void startFrame() {
+		if (!enabled)
+			return;
+
+		depth = 0;
+		for (int i = 0; i < COUNTERS.length; i++) {
+			lastFrameCounts[i] = frameCounts[i];
+			historySums[i] += frameCounts[i] - history[i][historyIndex];
+			history[i][historyIndex] = frameCounts[i];
+			frameCounts[i] = 0;
+		}
+		historyIndex = (historyIndex + 1) % AVERAGE_FRAMES;
+		historySize = Math.min(historySize + 1, AVERAGE_FRAMES);
+
+		for (var counts : OWNERS.values()) {
+			System.arraycopy(counts, 0, counts, COUNTERS.length, COUNTERS.length);
+			Arrays.fill(counts, 0, COUNTERS.length, 0);
+		}
+	}
+
+	/**
+	 * Enters the render scope of the given screen or widget, the counts are attributed to it until the scope is left.
+	 *
+	 * @param owner the screen or widget
+	 */
+	public static void push(Object owner) {
+		if (depth == scopeStack.length)
+			scopeStack = Arrays.copyOf(scopeStack, depth * 2);
+		scopeStack[depth++] = OWNERS.computeIfAbsent(owner.getClass(), ownerClass -> new long[COUNTERS.length * 2]);
+	}
+
+	/**
+	 * Leaves the last entered render scope.
+	 */
+	public static void pop() {
+		if (depth != 0)
+			scopeStack[--depth] = null;
+	}
+
+	/**
+	 * Returns the count of the given counter during the last frame.
+	 *
+	 * @param counter the counter
+	 * @return the count
+	 */
+	public static long getLastFrame(Counter counter) {
+		return lastFrameCounts[counter.ordinal()];
+	}
+
+	/**
+	 * Returns the average count per frame of the given counter over the last {@link #AVERAGE_FRAMES} frames.
+	 *
+	 * @param counter the counter
+	 * @return the average count
+	 */
+	public static double getAverage(Counter counter) {
+		return historySize == 0 ? 0 : (double) historySums[counter.ordinal()] / historySize;
+	}
+
+	/**
+	 * Returns the count of the given counter attributed to the given screen or widget class during the last frame.
+	 *
+	 * @param owner the screen or widget class
+	 * @param counter the counter
+	 * @return the count
+	 */
+	public static long getLastFrame(Class<?> owner, Counter counter) {
+		var counts = OWNERS.get(owner);
+		return counts == null ? 0 : counts[COUNTERS.length + counter.ordinal()];
+	}
+
+	/**
+	 * Returns the screen or widget class with the highest count of the given counter during the last frame.
+	 *
+	 * @param counter the counter
+	 * @return the class, or {@code null} if nothing was counted
+	 */
+	public static @Nullable Class<?> getTopOwner(Counter counter) {
+		Class<?> top = null;
+		long topCount = 0;
+		for (var entry : OWNERS.entrySet()) {
+			long count = entry.getValue()[COUNTERS.length + counter.ordinal()];
+			if (count > topCount) {
+				top = entry.getKey();
+				topCount = count;
+			}
+		}
+		return top;
+	}
+
+	/**
+	 * Returns the screen and widget classes counts were attributed to.
+	 *
+	 * @return the owner classes
+	 */
+	public static Set<Class<?>> getOwners() {
+		return Collections.unmodifiableSet(OWNERS.keySet());
+	}
+
+	private static void count(Counter counter, long amount) {
+		if (!enabled || depth == 0)
+			return;
+		frameCounts[counter.ordinal()] += amount;
+		scopeStack[depth - 1][counter.ordinal()] += amount;
+	}
+
+	@ApiStatus.Internal
+	public static void onDraw(int vertices) {
+		count(Counter.DRAW_CALLS, 1);
+		count(Counter.VERTICES, vertices);
+	}
+
+	@ApiStatus.Internal
+	public static void onTextureBind() {
+		count(Counter.TEXTURE_BINDS, 1);
+	}
+
+	@ApiStatus.Internal
+	public static void onTextDraw() {
+		count(Counter.TEXT_DRAWS, 1);
+	}
+
+	@ApiStatus.Internal
+	public static void onScissorPush() {
+		count(Counter.SCISSOR_PUSHES, 1);
+	}
+
+	/**
+	 * Represents a render counter.
+	 */
+	public enum Counter {
+		DRAW_CALLS("Draw calls"),
+		/**
+		 * The vertices submitted to draw calls, counted from the index count of the indexed draws, so a quad counts as 6.
+		 */
+		VERTICES("Vertices"),
+		SCISSOR_PUSHES("Scissor pushes"),
+		TEXTURE_BINDS("Texture binds"),
+		TEXT_DRAWS("Text draws");
+
+		private final String name;
+
+		Counter(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.profiler;
+
+import dev.lambdaurora.spruceui.hud.Hud;
+import dev.lambdaurora.spruceui.hud.component.TextHudComponent;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a debug HUD showing the rolling averages of the {@link RenderMetrics render counters}.
+ * <p>
+ * The HUD is not registered by default, register it through {@link dev.lambdaurora.spruceui.hud.HudManager#register(Hud)}.
+ * The render counters are enabled while the HUD is enabled.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public class RenderMetricsHud extends Hud {
+	private static final int LINE_HEIGHT = 10;
+	private static final RenderMetrics.Counter[] COUNTERS = RenderMetrics.Counter.values();
+
+	private final TextHudComponent[] lines = new TextHudComponent[COUNTERS.length + 1];
+
+	public RenderMetricsHud() {
+		super(new Identifier("spruceui", "render_metrics"));
+	}
+
+	@Override
+	public void init(@NotNull MinecraftClient client, int screenWidth, int screenHeight) {
+		super.init(client, screenWidth, screenHeight);
+		if (!RenderMetrics.isEnabled())
+			RenderMetrics.setEnabled(true);
+
+		for (int i = 0; i < this.lines.length; i++) {
+			this.lines[i] = new TextHudComponent(new Identifier("spruceui", "render_metrics/line_" + i), 2, 2 + i * LINE_HEIGHT,
+					Text.empty());
+			this.components.add(this.lines[i]);
+		}
+		this.tick();
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		super.setEnabled(enabled);
+		if (!enabled)
+			RenderMetrics.setEnabled(false);
+	}
+
+	@Override
+	public boolean hasTicks() {
+		return true;
+	}
+
+	@Override
+	public void tick() {
+		if (this.lines[0] == null)
+			return;
+
+		for (int i = 0; i < COUNTERS.length; i++) {
+			var counter = COUNTERS[i];
+			this.lines[i].setText(Text.literal(String.format("%s: %.1f", counter.getName(), RenderMetrics.getAverage(counter))));
+		}
+
+		var top = RenderMetrics.getTopOwner(RenderMetrics.Counter.DRAW_CALLS);
+		this.lines[COUNTERS.length].setText(Text.literal(top == null ? "Top: none"
+				: "Top: " + top.getSimpleName() + " (" + RenderMetrics.getLastFrame(top, RenderMetrics.Counter.DRAW_CALLS) + " draws)"));
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.profiler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Represents an opt-in profiler of the widget render and input phases.
+ * <p>
+ * Timings are recorded into a tree of {@link ProfilerNode nodes}, a node being keyed by the widget class and the phase under its parent node,
+ * so the tree follows the widget hierarchy. Call sites check {@link #isEnabled()} before entering a phase,
+ * which keeps the profiler free when disabled.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class WidgetProfiler {
+	public static final String RENDER = "render";
+	public static final String RENDER_BACKGROUND = "renderBackground";
+	public static final String RENDER_WIDGET = "renderWidget";
+	public static final String MOUSE_CLICKED = "mouseClicked";
+	public static final String KEY_PRESSED = "keyPressed";
+	public static final String NAVIGATION = "onNavigation";
+
+	private static boolean enabled;
+	private static ProfilerNode root = new ProfilerNode(null, null, "root");
+	private static ProfilerNode[] nodeStack = new ProfilerNode[32];
+	private static long[] startStack = new long[32];
+	private static int depth;
+	private static long frames;
+
+	private WidgetProfiler() {
+		throw new UnsupportedOperationException("WidgetProfiler only contains static definitions.");
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the profiler. The recorded timings are kept until {@link #reset()} is called.
+	 *
+	 * @param enabled {@code true} to enable the profiler, else {@code false}
+	 */
+	public static void setEnabled(boolean enabled) {
+		WidgetProfiler.enabled = enabled;
+		depth = 0;
+	}
+
+	/**
+	 * Clears the recorded timings.
+	 */
+	public static void reset() {
+		root = new ProfilerNode(null, null, "root");
+		depth = 0;
+		frames = 0;
+	}
+
+	/**
+	 * Returns the root of the profiler tree.
+	 *
+	 * @return the root node
+	 */
+	public static ProfilerNode getRoot() {
+		return root;
+	}
+
+	/**
+	 * Returns the number of frames profiled since the last reset.
+	 *
+	 * @return the number of frames
+	 */
+	public static long getFrames() {
+		return frames;
+	}
+
+	/**
+	 * Ends the current frame, committing the frame timings of every node, called at the start of each frame.
+	 * <p>
+	 * Phases left unfinished, for example because of an exception, are discarded.
+	 */
+	public static void startFrame() {
+		if (!enabled)
+			return;
+
+		depth = 0;
+		root.endFrame();
+		frames++;
+	}
+
+	/**
+	 * Enters a phase of the given widget.
+	 *
+	 * @param widget the profiled widget
+	 * @param phase the phase
+	 */
+	public static void push(Object widget, String phase) {
+		var parent = depth == 0 ? root : nodeStack[depth - 1];
+		if (depth == nodeStack.length) {
+			nodeStack = Arrays.copyOf(nodeStack, depth * 2);
+			startStack = Arrays.copyOf(startStack, depth * 2);
+		}
+
+		nodeStack[depth] = parent.getChild(widget.getClass(), phase);
+		startStack[depth] = System.nanoTime();
+		depth++;
+	}
+
+	/**
+	 * Leaves the last entered phase.
+	 */
+	public static void pop() {
+		if (depth == 0)
+			return;
+
+		depth--;
+		nodeStack[depth].record(System.nanoTime() - startStack[depth]);
+		nodeStack[depth] = null;
+	}
+
+	/**
+	 * Exports the profiler tree as JSON.
+	 *
+	 * @param writer the writer to export to
+	 * @throws IOException if the export fails
+	 */
+	public static void exportJson(Writer writer) throws IOException {
+		writer.write("{\"frames\":");
+		writer.write(Long.toString(frames));
+		writer.write(",\"root\":");
+		writeNode(writer, root);
+		writer.write('}');
+		writer.flush();
+	}
+
+	/**
+	 * Exports the profiler tree as JSON into the given file.
+	 *
+	 * @param path the path of the file
+	 * @throws IOException if the export fails
+	 */
+	public static void exportJson(Path path) throws IOException {
+		try (var writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			exportJson(writer);
+		}
+	}
+
+	private static void writeNode(Writer writer, ProfilerNode node) throws IOException {
+		writer.write("{\"name\":");
+		writeString(writer, node.getName());
+		writer.write(",\"class\":");
+		writeString(writer, node.getOwner() == null ? "" : node.getOwner().getName());
+		writer.write(",\"phase\":");
+		writeString(writer, node.getPhase());
+		writer.write(",\"path\":");
+		writeString(writer, node.getPath());
+		writer.write(",\"calls\":" + node.getCalls());
+		writer.write(",\"totalNanos\":" + node.getTotalNanos());
+		writer.write(",\"frames\":" + node.getSampledFrames());
+		writer.write(",\"p50Nanos\":" + node.getFramePercentile(.5));
+		writer.write(",\"p99Nanos\":" + node.getFramePercentile(.99));
+		writer.write(",\"maxNanos\":" + node.getMaxFrameNanos());
+		writer.write(",\"children\":[");
+		var children = node.getChildren();
+		for (int i = 0; i < children.size(); i++) {
+			if (i != 0)
+				writer.write(',');
+			writeNode(writer, children.get(i));
+		}
+		writer.write("]}");
+	}
+
+	private static void writeString(Writer writer, String value) throws IOException {
+		writer.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> writer.write("\\\"");
+				case '\\' -> writer.write("\\\\");
+				default -> {
+					if (c < 0x20)
+						writer.write(String.format("\\u%04x", (int) c));
+					else
+						writer.write(c);
+				}
+			}
+		}
+		writer.write('"');
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Represents the JFR event of the initialization of the registered HUDs.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@Name("dev.lambdaurora.spruceui.HudInit")
+@Label("HUD Init")
+@Category({"SpruceUI", "HUD"})
+@Description("Initialization of the registered HUDs.")
+public final class HudInitEvent extends Event {
+	@Label("HUD Count")
+	public int hudCount;
+
+	@Label("Screen Width")
+	public int screenWidth;
+
+	@Label("Screen Height")
+	public int screenHeight;
+}
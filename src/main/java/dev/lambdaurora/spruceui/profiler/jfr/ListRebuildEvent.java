@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Represents the JFR event of the recomputation of the entry positions of a {@link dev.lambdaurora.spruceui.widget.container.SpruceEntryListWidget}.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@Name("dev.lambdaurora.spruceui.ListRebuild")
+@Label("List Rebuild")
+@Category({"SpruceUI", "Layout"})
+@Description("Recomputation of the entry positions of a list.")
+public final class ListRebuildEvent extends Event {
+	@Label("List")
+	public String list;
+
+	@Label("Entry Count")
+	public int entryCount;
+
+	@Label("From Index")
+	public int fromIndex;
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Represents the JFR event of the invocation of the {@link dev.lambdaurora.spruceui.event.OpenScreenCallback} listeners.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@Name("dev.lambdaurora.spruceui.OpenScreen")
+@Label("Open Screen Callback")
+@Category({"SpruceUI", "Screen"})
+@Description("Invocation of the screen opening callbacks.")
+public final class OpenScreenEvent extends Event {
+	@Label("Screen")
+	public String screen;
+
+	@Label("Phase")
+	public String phase;
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Represents the JFR event of the initialization of a SpruceUI screen.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@Name("dev.lambdaurora.spruceui.ScreenInit")
+@Label("Screen Init")
+@Category({"SpruceUI", "Screen"})
+@Description("Initialization of a SpruceUI screen.")
+public final class ScreenInitEvent extends Event {
+	@Label("Screen")
+	public String screen;
+
+	@Label("Widget Count")
+	public int widgetCount;
+
+	@Label("Width")
+	public int width;
+
+	@Label("Height")
+	public int height;
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.profiler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Represents the JFR event of the wrapping of a tooltip text.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+@Name("dev.lambdaurora.spruceui.TooltipWrap")
+@Label("Tooltip Wrap")
+@Category({"SpruceUI", "Text"})
+@Description("Wrapping of a tooltip text.")
+public final class TooltipWrapEvent extends Event {
+	@Label("Text Length")
+	public int textLength;
+
+	@Label("Width")
+	public int width;
+
+	@Label("Lines")
+	public int lines;
+}
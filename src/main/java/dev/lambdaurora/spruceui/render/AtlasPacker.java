@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.render;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents a packer laying out rectangles on shelves of a power of two sized atlas.
+ * <p>
+ * The packer only works on sizes, which keeps it usable without a graphics context.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class AtlasPacker {
+	private final int maxSize;
+	private final int padding;
+
+	/**
+	 * Creates a new atlas packer.
+	 *
+	 * @param maxSize the maximum width and height of the atlas
+	 * @param padding the empty space to keep on the right and below each rectangle
+	 */
+	public AtlasPacker(int maxSize, int padding) {
+		this.maxSize = maxSize;
+		this.padding = padding;
+	}
+
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	public int getPadding() {
+		return this.padding;
+	}
+
+	/**
+	 * Packs the given rectangles.
+	 * <p>
+	 * Rectangles are placed from the tallest to the shortest, the atlas width is doubled until the shelves fit in the maximum height.
+	 *
+	 * @param widths the widths of the rectangles
+	 * @param heights the heights of the rectangles
+	 * @return the layout of the rectangles, or {@code null} if they don't fit in the maximum atlas size
+	 */
+	public @Nullable Layout pack(int[] widths, int[] heights) {
+		int count = widths.length;
+		if (heights.length != count)
+			throw new IllegalArgumentException("Expected as many heights as widths, got " + heights.length + " and " + count + ".");
+
+		int[] order = new int[count];
+		long area = 0;
+		int maxWidth = 1;
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+			area += (long) (widths[i] + this.padding) * (heights[i] + this.padding);
+			maxWidth = Math.max(maxWidth, widths[i]);
+		}
+		IntArrays.quickSort(order, (a, b) -> {
+			int result = Integer.compare(heights[b], heights[a]);
+			return result != 0 ? result : Integer.compare(widths[b], widths[a]);
+		});
+
+		int[] x = new int[count];
+		int[] y = new int[count];
+		for (int width = nextPowerOfTwo(Math.max(maxWidth, (int) Math.ceil(Math.sqrt(area)))); width <= this.maxSize; width <<= 1) {
+			int height = nextPowerOfTwo(this.layoutShelves(order, widths, heights, width, x, y));
+			if (height <= this.maxSize)
+				return new Layout(width, height, x, y);
+		}
+		return null;
+	}
+
+	private int layoutShelves(int[] order, int[] widths, int[] heights, int width, int[] x, int[] y) {
+		int shelfX = 0;
+		int shelfY = 0;
+		int shelfHeight = 0;
+		for (int i : order) {
+			if (shelfX + widths[i] > width) {
+				shelfY += shelfHeight;
+				shelfX = 0;
+				shelfHeight = 0;
+			}
+
+			x[i] = shelfX;
+			y[i] = shelfY;
+			shelfX += widths[i] + this.padding;
+			shelfHeight = Math.max(shelfHeight, heights[i] + this.padding);
+		}
+		return shelfY + shelfHeight;
+	}
+
+	private static int nextPowerOfTwo(int value) {
+		return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+	}
+
+	/**
+	 * Represents the result of a packing.
+	 */
+	public static final class Layout {
+		private final int width;
+		private final int height;
+		private final int[] x;
+		private final int[] y;
+
+		Layout(int width, int height, int[] x, int[] y) {
+			this.width = width;
+			this.height = height;
+			this.x = x;
+			this.y = y;
+		}
+
+		/**
+		 * Returns the width of the atlas, a power of two.
+		 *
+		 * @return the width of the atlas
+		 */
+		public int getWidth() {
+			return this.width;
+		}
+
+		/**
+		 * Returns the height of the atlas, a power of two.
+		 *
+		 * @return the height of the atlas
+		 */
+		public int getHeight() {
+			return this.height;
+		}
+
+		/**
+		 * Returns the X-coordinate of the given rectangle in the atlas.
+		 *
+		 * @param index the index of the rectangle
+		 * @return the X-coordinate
+		 */
+		public int getX(int index) {
+			return this.x[index];
+		}
+
+		/**
+		 * Returns the Y-coordinate of the given rectangle in the atlas.
+		 *
+		 * @param index the index of the rectangle
+		 * @return the Y-coordinate
+		 */
+		public int getY(int index) {
+			return this.y[index];
+		}
+
+		@Override
+		public String toString() {
+			return "AtlasPacker$Layout{" +
+					"width=" + this.width +
+					", height=" + this.height +
+					", rectangles=" + this.x.length +
+					'}';
+		}
+	}
+}
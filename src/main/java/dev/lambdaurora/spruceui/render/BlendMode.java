@@ -0,0 +1,30 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.render;
+
+/**
+ * Represents the way untextured quads submitted to a {@link RenderBackend} are combined with the framebuffer.
+ * <p>
+ * Quads sharing the same blend mode share the same render state and can be drawn together.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public enum BlendMode {
+	/**
+	 * Alpha blending which keeps the destination alpha, opaque colors simply overwrite the framebuffer.
+	 */
+	TRANSLUCENT,
+	/**
+	 * Color logic operation {@code OR_REVERSE}, used to highlight selected text.
+	 */
+	OR_REVERSE
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.render;
+
+import com.mojang.blaze3d.vertex.Tessellator;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.blaze3d.vertex.VertexFormats;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.client.gui.widget.ClickableWidget;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+
+import java.util.Arrays;
+
+/**
+ * Represents the renderer of the vanilla button background, a three-slice of the widgets texture.
+ * <p>
+ * The quads of a background only depend on its width, height and V coordinate, they are computed once per combination,
+ * cached, and drawn in a single draw call instead of one draw call per slice.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class ButtonBackgroundRenderer {
+	/**
+	 * The number of meshes kept in the cache, the least recently used ones are evicted first.
+	 */
+	public static final int MAX_MESHES = 256;
+	private static final int TEXTURE_SIZE = 256;
+	private static final int BUTTON_WIDTH = 200;
+	private static final int CAP_WIDTH = 50;
+	private static final int TILE_WIDTH = 100;
+	private static final ButtonBackgroundRenderer INSTANCE = new ButtonBackgroundRenderer();
+
+	private final Long2ObjectLinkedOpenHashMap<float[]> meshes = new Long2ObjectLinkedOpenHashMap<>();
+
+	/**
+	 * Returns the button background renderer.
+	 *
+	 * @return the button background renderer
+	 */
+	public static ButtonBackgroundRenderer get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the cached mesh of a button background.
+	 *
+	 * @param width the width of the button
+	 * @param height the height of the button
+	 * @param v the V coordinate of the button state in the widgets texture
+	 * @return the quads of the background
+	 * @see #buildMesh(int, int, int)
+	 */
+	public float[] getMesh(int width, int height, int v) {
+		long key = ((long) width << 32) | ((long) (height & 0xffff) << 16) | (v & 0xffff);
+		var mesh = this.meshes.getAndMoveToLast(key);
+		if (mesh == null) {
+			mesh = buildMesh(width, height, v);
+			this.meshes.putAndMoveToLast(key, mesh);
+			if (this.meshes.size() > MAX_MESHES)
+				this.meshes.removeFirst();
+		}
+		return mesh;
+	}
+
+	/**
+	 * Clears the cached meshes.
+	 */
+	public void invalidate() {
+		this.meshes.clear();
+	}
+
+	/**
+	 * Builds the quads of a button background.
+	 * <p>
+	 * Each quad is made of 8 values: its left, top, right and bottom coordinates relative to the button,
+	 * then its left, top, right and bottom coordinates in the widgets texture, in pixels.
+	 * Buttons narrower than 400 pixels are made of the two halves of the texture,
+	 * wider buttons are made of the two caps and of the middle of the texture tiled in between.
+	 *
+	 * @param width the width of the button
+	 * @param height the height of the button
+	 * @param v the V coordinate of the button state in the widgets texture
+	 * @return the quads of the background
+	 */
+	public static float[] buildMesh(int width, int height, int v) {
+		// The two caps, the tiles and the remainder of the middle part.
+		var mesh = new float[8 * (4 + Math.max(0, width) / TILE_WIDTH)];
+		int size;
+		if (width / 2 < BUTTON_WIDTH) {
+			size = putQuad(mesh, 0, 0, width / 2, height, 0, v);
+			size = putQuad(mesh, size, width / 2, width / 2, height, BUTTON_WIDTH - width / 2, v);
+		} else {
+			int middleWidth = width - TILE_WIDTH;
+			size = putQuad(mesh, 0, 0, CAP_WIDTH, height, 0, v);
+
+			int x;
+			for (x = CAP_WIDTH; x < middleWidth; x += TILE_WIDTH) {
+				size = putQuad(mesh, size, x, TILE_WIDTH, height, CAP_WIDTH, v);
+			}
+
+			if (x - middleWidth > 0) {
+				size = putQuad(mesh, size, x, x - middleWidth, height, CAP_WIDTH, v);
+			}
+
+			size = putQuad(mesh, size, width - CAP_WIDTH, CAP_WIDTH, height, BUTTON_WIDTH - CAP_WIDTH, v);
+		}
+		return Arrays.copyOf(mesh, size);
+	}
+
+	private static int putQuad(float[] mesh, int offset, int x, int width, int height, int u, int v) {
+		mesh[offset] = x;
+		mesh[offset + 1] = 0;
+		mesh[offset + 2] = x + width;
+		mesh[offset + 3] = height;
+		mesh[offset + 4] = u;
+		mesh[offset + 5] = v;
+		mesh[offset + 6] = u + width;
+		mesh[offset + 7] = v + height;
+		return offset + 8;
+	}
+
+	/**
+	 * Renders a button background.
+	 *
+	 * @param matrices the matrix stack
+	 * @param x the X-coordinate of the button
+	 * @param y the Y-coordinate of the button
+	 * @param width the width of the button
+	 * @param height the height of the button
+	 * @param v the V coordinate of the button state in the widgets texture
+	 */
+	public void render(MatrixStack matrices, int x, int y, int width, int height, int v) {
+		var mesh = this.getMesh(width, height, v);
+
+		var atlas = SpriteAtlas.get();
+		var sprite = atlas.getSprite(ClickableWidget.WIDGETS_TEXTURE);
+		float offsetU = 0.f, offsetV = 0.f, scaleU = 1.f / TEXTURE_SIZE, scaleV = 1.f / TEXTURE_SIZE;
+		if (sprite != null) {
+			RenderStateTracker.setShaderTexture(0, atlas.getId());
+			offsetU = (float) sprite.x() / sprite.atlasWidth();
+			offsetV = (float) sprite.y() / sprite.atlasHeight();
+			scaleU = (float) sprite.width() / TEXTURE_SIZE / sprite.atlasWidth();
+			scaleV = (float) sprite.height() / TEXTURE_SIZE / sprite.atlasHeight();
+		} else {
+			RenderStateTracker.setShaderTexture(0, ClickableWidget.WIDGETS_TEXTURE);
+		}
+		RenderStateTracker.setShader(GameRenderer::getPositionTexShader);
+
+		var model = matrices.peek().getModel();
+		var buffer = Tessellator.getInstance().getBufferBuilder();
+		buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_TEXTURE);
+		for (int i = 0; i < mesh.length; i += 8) {
+			float x0 = x + mesh[i], y0 = y + mesh[i + 1], x1 = x + mesh[i + 2], y1 = y + mesh[i + 3];
+			float u0 = offsetU + mesh[i + 4] * scaleU, v0 = offsetV + mesh[i + 5] * scaleV;
+			float u1 = offsetU + mesh[i + 6] * scaleU, v1 = offsetV + mesh[i + 7] * scaleV;
+			buffer.vertex(model, x0, y1, 0.f).texture(u0, v1).next();
+			buffer.vertex(model, x1, y1, 0.f).texture(u1, v1).next();
+			buffer.vertex(model, x1, y0, 0.f).texture(u1, v0).next();
+			buffer.vertex(model, x0, y0, 0.f).texture(u0, v0).next();
+		}
+		Tessellator.getInstance().draw();
+	}
+}
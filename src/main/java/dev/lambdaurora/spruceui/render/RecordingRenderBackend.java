@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.render;
+
+import com.mojang.blaze3d.platform.GlStateManager;
+import com.mojang.blaze3d.vertex.Tessellator;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.blaze3d.vertex.VertexFormats;
+import dev.lambdaurora.spruceui.util.ColorUtil;
+import net.minecraft.client.render.GameRenderer;
+
+import java.util.Arrays;
+
+/**
+ * Represents a render backend recording quads into a command buffer, and merging them into batches when flushed.
+ * <p>
+ * A quad joins the latest batch with the same blend mode as long as it doesn't overlap any quad of the batches recorded since,
+ * so the merged draws produce the same image as drawing the quads in order.
+ * The batches are then handed to a {@link BatchRenderer}, which makes the backend usable without a graphics context.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class RecordingRenderBackend implements RenderBackend {
+	/**
+	 * The default number of batches a quad can be moved across to join a batch with the same blend mode.
+	 */
+	public static final int MAX_LOOKBACK = 16;
+	private static final BlendMode[] BLEND_MODES = BlendMode.values();
+
+	private final BatchRenderer renderer;
+	private final int lookback;
+
+	// Command buffer: 8 coordinates, 4 colors and 1 blend mode per quad.
+	private float[] positions = new float[8 * 64];
+	private int[] colors = new int[4 * 64];
+	private byte[] modes = new byte[64];
+	private int quadCount;
+
+	// Batches: the quads of a batch are linked from its head to its tail through the next array.
+	private byte[] batchModes = new byte[16];
+	private float[] batchBounds = new float[4 * 16];
+	private int[] batchHeads = new int[16];
+	private int[] batchTails = new int[16];
+	private int[] next = new int[64];
+	private float[] batchPositions = new float[8 * 64];
+	private int[] batchColors = new int[4 * 64];
+
+	private long drawCalls;
+	private long drawnQuads;
+
+	public RecordingRenderBackend(BatchRenderer renderer) {
+		this(renderer, MAX_LOOKBACK);
+	}
+
+	/**
+	 * Creates a new recording render backend.
+	 *
+	 * @param renderer the renderer of the merged batches
+	 * @param lookback the number of batches a quad can be moved across to join a batch with the same blend mode
+	 */
+	RecordingRenderBackend(BatchRenderer renderer, int lookback) {
+		this.renderer = renderer;
+		this.lookback = lookback;
+	}
+
+	/**
+	 * Creates a render backend drawing through the tessellator.
+	 *
+	 * @return the render backend
+	 */
+	public static RecordingRenderBackend tessellator() {
+		return new RecordingRenderBackend(new TessellatorBatchRenderer());
+	}
+
+	/**
+	 * Creates a render backend which only counts the draw calls it would issue.
+	 *
+	 * @return the render backend
+	 */
+	public static RecordingRenderBackend headless() {
+		return new RecordingRenderBackend((mode, positions, colors, quadCount) -> {
+		});
+	}
+
+	@Override
+	public void quad(BlendMode mode, float x1, float y1, int color1, float x2, float y2, int color2,
+			float x3, float y3, int color3, float x4, float y4, int color4) {
+		if (this.quadCount == this.modes.length) {
+			int capacity = this.modes.length * 2;
+			this.positions = Arrays.copyOf(this.positions, capacity * 8);
+			this.colors = Arrays.copyOf(this.colors, capacity * 4);
+			this.modes = Arrays.copyOf(this.modes, capacity);
+		}
+
+		int quad = this.quadCount++;
+		int p = quad * 8;
+		this.positions[p] = x1;
+		this.positions[p + 1] = y1;
+		this.positions[p + 2] = x2;
+		this.positions[p + 3] = y2;
+		this.positions[p + 4] = x3;
+		this.positions[p + 5] = y3;
+		this.positions[p + 6] = x4;
+		this.positions[p + 7] = y4;
+		int c = quad * 4;
+		this.colors[c] = color1;
+		this.colors[c + 1] = color2;
+		this.colors[c + 2] = color3;
+		this.colors[c + 3] = color4;
+		this.modes[quad] = (byte) mode.ordinal();
+	}
+
+	/**
+	 * Returns the number of quads recorded since the last flush.
+	 *
+	 * @return the number of pending quads
+	 */
+	public int getPendingQuads() {
+		return this.quadCount;
+	}
+
+	/**
+	 * Returns the number of draw calls issued since the creation of this backend or the last counter reset.
+	 *
+	 * @return the number of draw calls
+	 */
+	public long getDrawCalls() {
+		return this.drawCalls;
+	}
+
+	/**
+	 * Returns the number of quads drawn since the creation of this backend or the last counter reset.
+	 *
+	 * @return the number of drawn quads
+	 */
+	public long getDrawnQuads() {
+		return this.drawnQuads;
+	}
+
+	/**
+	 * Resets the draw call and drawn quad counters.
+	 */
+	public void resetCounters() {
+		this.drawCalls = 0;
+		this.drawnQuads = 0;
+	}
+
+	@Override
+	public void flush() {
+		if (this.quadCount == 0)
+			return;
+
+		int batchCount = this.buildBatches();
+		for (int batch = 0; batch < batchCount; batch++) {
+			int count = 0;
+			for (int quad = this.batchHeads[batch]; quad != -1; quad = this.next[quad]) {
+				System.arraycopy(this.positions, quad * 8, this.batchPositions, count * 8, 8);
+				System.arraycopy(this.colors, quad * 4, this.batchColors, count * 4, 4);
+				count++;
+			}
+
+			this.renderer.draw(BLEND_MODES[this.batchModes[batch]], this.batchPositions, this.batchColors, count);
+			this.drawCalls++;
+			this.drawnQuads += count;
+		}
+		this.renderer.finish();
+
+		this.quadCount = 0;
+	}
+
+	private int buildBatches() {
+		if (this.next.length < this.quadCount) {
+			this.next = new int[this.modes.length];
+			this.batchPositions = new float[this.modes.length * 8];
+			this.batchColors = new int[this.modes.length * 4];
+		}
+
+		int batchCount = 0;
+		for (int quad = 0; quad < this.quadCount; quad++) {
+			int p = quad * 8;
+			float minX = Math.min(Math.min(this.positions[p], this.positions[p + 2]), Math.min(this.positions[p + 4], this.positions[p + 6]));
+			float minY = Math.min(Math.min(this.positions[p + 1], this.positions[p + 3]), Math.min(this.positions[p + 5], this.positions[p + 7]));
+			float maxX = Math.max(Math.max(this.positions[p], this.positions[p + 2]), Math.max(this.positions[p + 4], this.positions[p + 6]));
+			float maxY = Math.max(Math.max(this.positions[p + 1], this.positions[p + 3]), Math.max(this.positions[p + 5], this.positions[p + 7]));
+
+			int target = -1;
+			for (int batch = batchCount - 1; batch >= Math.max(0, batchCount - this.lookback); batch--) {
+				if (this.batchModes[batch] == this.modes[quad]) {
+					target = batch;
+					break;
+				}
+
+				// The quad cannot be drawn before a batch it overlaps.
+				int b = batch * 4;
+				if (minX < this.batchBounds[b + 2] && this.batchBounds[b] < maxX
+						&& minY < this.batchBounds[b + 3] && this.batchBounds[b + 1] < maxY)
+					break;
+			}
+
+			this.next[quad] = -1;
+			if (target == -1) {
+				if (batchCount == this.batchModes.length) {
+					int capacity = batchCount * 2;
+					this.batchModes = Arrays.copyOf(this.batchModes, capacity);
+					this.batchBounds = Arrays.copyOf(this.batchBounds, capacity * 4);
+					this.batchHeads = Arrays.copyOf(this.batchHeads, capacity);
+					this.batchTails = Arrays.copyOf(this.batchTails, capacity);
+				}
+
+				target = batchCount++;
+				this.batchModes[target] = this.modes[quad];
+				this.batchHeads[target] = quad;
+				int b = target * 4;
+				this.batchBounds[b] = minX;
+				this.batchBounds[b + 1] = minY;
+				this.batchBounds[b + 2] = maxX;
+				this.batchBounds[b + 3] = maxY;
+			} else {
+				this.next[this.batchTails[target]] = quad;
+				int b = target * 4;
+				this.batchBounds[b] = Math.min(this.batchBounds[b], minX);
+				this.batchBounds[b + 1] = Math.min(this.batchBounds[b + 1], minY);
+				this.batchBounds[b + 2] = Math.max(this.batchBounds[b + 2], maxX);
+				this.batchBounds[b + 3] = Math.max(this.batchBounds[b + 3], maxY);
+			}
+			this.batchTails[target] = quad;
+		}
+		return batchCount;
+	}
+
+	/**
+	 * Draws the batches of quads merged by a recording render backend.
+	 */
+	@FunctionalInterface
+	public interface BatchRenderer {
+		/**
+		 * Draws a batch of quads sharing the same blend mode in a single draw call.
+		 *
+		 * @param mode the blend mode
+		 * @param positions the vertex coordinates, 8 per quad
+		 * @param colors the ARGB vertex colors, 4 per quad
+		 * @param quadCount the number of quads to draw
+		 */
+		void draw(BlendMode mode, float[] positions, int[] colors, int quadCount);
+
+		/**
+		 * Called once all the batches of a flush are drawn, to restore the render state the batches changed.
+		 */
+		default void finish() {
+		}
+	}
+
+	/**
+	 * Batch renderer drawing through the tessellator.
+	 * <p>
+	 * The state is only restored once the whole flush is drawn, so consecutive batches don't toggle it back and forth.
+	 */
+	private static final class TessellatorBatchRenderer implements BatchRenderer {
+		@Override
+		public void draw(BlendMode mode, float[] positions, int[] colors, int quadCount) {
+			RenderStateTracker.disableTexture();
+			if (mode == BlendMode.OR_REVERSE) {
+				RenderStateTracker.enableColorLogicOp();
+				RenderStateTracker.logicOp(GlStateManager.LogicOp.OR_REVERSE);
+			} else {
+				RenderStateTracker.disableColorLogicOp();
+				RenderStateTracker.enableBlend();
+				RenderStateTracker.blendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA.value, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA.value,
+						GlStateManager.SourceFactor.ZERO.value, GlStateManager.DestFactor.ONE.value);
+			}
+			RenderStateTracker.setShader(GameRenderer::getPositionColorShader);
+			RenderStateTracker.setShaderColor(1.f, 1.f, 1.f, 1.f);
+
+			var tessellator = Tessellator.getInstance();
+			var buffer = tessellator.getBufferBuilder();
+			buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
+			for (int vertex = 0; vertex < quadCount * 4; vertex++) {
+				int color = colors[vertex];
+				buffer.vertex(positions[vertex * 2], positions[vertex * 2 + 1], 0)
+						.color(ColorUtil.argbUnpackRed(color), ColorUtil.argbUnpackGreen(color), ColorUtil.argbUnpackBlue(color),
+								ColorUtil.argbUnpackAlpha(color))
+						.next();
+			}
+			tessellator.draw();
+		}
+
+		@Override
+		public void finish() {
+			RenderStateTracker.disableColorLogicOp();
+			RenderStateTracker.disableBlend();
+			RenderStateTracker.enableTexture();
+		}
+	}
+
+	static final class Holder {
+		static RenderBackend instance = tessellator();
+
+		private Holder() {
+			throw new UnsupportedOperationException("Holder only contains static definitions.");
+		}
+	}
+}
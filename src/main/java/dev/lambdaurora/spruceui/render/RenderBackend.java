@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.render;
+
+import java.util.Objects;
+
+/**
+ * Represents the backend SpruceUI widgets submit their untextured quads to.
+ * <p>
+ * Quads are not drawn immediately, they are recorded until the next {@link #flush() flush}, which draws them in as few draw calls
+ * as possible. Widgets flush before and after rendering, and scissor changes flush too,
+ * so recorded quads never get reordered against what is drawn directly with the font renderer or with textures.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ * @see RecordingRenderBackend
+ */
+public interface RenderBackend {
+	/**
+	 * Returns the current render backend.
+	 *
+	 * @return the render backend
+	 */
+	static RenderBackend get() {
+		return RecordingRenderBackend.Holder.instance;
+	}
+
+	/**
+	 * Replaces the current render backend, mostly useful to count draw calls without a graphics context.
+	 *
+	 * @param backend the new render backend
+	 */
+	static void set(RenderBackend backend) {
+		RecordingRenderBackend.Holder.instance = Objects.requireNonNull(backend);
+	}
+
+	/**
+	 * Records a quad, vertices being given in counter-clockwise order starting from the bottom left corner.
+	 *
+	 * @param mode the blend mode
+	 * @param x1 the X-coordinate of the first vertex
+	 * @param y1 the Y-coordinate of the first vertex
+	 * @param color1 the ARGB color of the first vertex
+	 * @param x2 the X-coordinate of the second vertex
+	 * @param y2 the Y-coordinate of the second vertex
+	 * @param color2 the ARGB color of the second vertex
+	 * @param x3 the X-coordinate of the third vertex
+	 * @param y3 the Y-coordinate of the third vertex
+	 * @param color3 the ARGB color of the third vertex
+	 * @param x4 the X-coordinate of the fourth vertex
+	 * @param y4 the Y-coordinate of the fourth vertex
+	 * @param color4 the ARGB color of the fourth vertex
+	 */
+	void quad(BlendMode mode, float x1, float y1, int color1, float x2, float y2, int color2,
+			float x3, float y3, int color3, float x4, float y4, int color4);
+
+	/**
+	 * Records a rectangle filled with a solid color.
+	 *
+	 * @param mode the blend mode
+	 * @param x1 the left X-coordinate
+	 * @param y1 the top Y-coordinate
+	 * @param x2 the right X-coordinate
+	 * @param y2 the bottom Y-coordinate
+	 * @param color the ARGB color
+	 */
+	default void fill(BlendMode mode, int x1, int y1, int x2, int y2, int color) {
+		this.quad(mode, x1, y2, color, x2, y2, color, x2, y1, color, x1, y1, color);
+	}
+
+	/**
+	 * Draws the recorded quads.
+	 */
+	void flush();
+}
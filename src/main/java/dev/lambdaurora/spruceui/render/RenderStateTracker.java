@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.render;
+
+import com.mojang.blaze3d.platform.GlStateManager;
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.minecraft.client.render.ShaderProgram;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Represents a tracker of the render state, used by SpruceUI render paths to skip {@link RenderSystem} calls which would not change anything.
+ * <p>
+ * The shader, the shader color and the shader textures are compared against the values held by {@link RenderSystem}.
+ * The texture, blend and logic operation states have no getter, they are mirrored from {@link GlStateManager} through an injection,
+ * so changes made by vanilla rendering are seen too. The mirrored states are forgotten at the start of each frame,
+ * which keeps the tracker correct even if another mod bypasses the state manager.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class RenderStateTracker {
+	private static final byte UNKNOWN = -1;
+	private static final int SHADER_TEXTURES = 12;
+
+	private static byte texture = UNKNOWN;
+	private static byte blend = UNKNOWN;
+	private static final int[] blendFunc = {UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN};
+	private static int[] defaultBlendFunc = null;
+	private static byte colorLogicOp = UNKNOWN;
+	private static int logicOp = UNKNOWN;
+	private static final Identifier[] shaderTextureIds = new Identifier[SHADER_TEXTURES];
+	private static final int[] shaderTextureGlIds = new int[SHADER_TEXTURES];
+
+	private static int issuedCalls;
+	private static int elidedCalls;
+	private static int lastFrameIssuedCalls;
+	private static int lastFrameElidedCalls;
+
+	private RenderStateTracker() {
+		throw new UnsupportedOperationException("RenderStateTracker only contains static definitions.");
+	}
+
+	/**
+	 * Starts a new frame, the call counters of the previous frame become available.
+	 */
+	public static void startFrame() {
+		lastFrameIssuedCalls = issuedCalls;
+		lastFrameElidedCalls = elidedCalls;
+		issuedCalls = 0;
+		elidedCalls = 0;
+
+		texture = UNKNOWN;
+		blend = UNKNOWN;
+		Arrays.fill(blendFunc, UNKNOWN);
+		colorLogicOp = UNKNOWN;
+		logicOp = UNKNOWN;
+	}
+
+	/**
+	 * Forgets the shader textures, called when the resources are reloaded as texture identifiers may then point to new textures.
+	 */
+	public static void invalidate() {
+		Arrays.fill(shaderTextureIds, null);
+	}
+
+	/**
+	 * Returns the number of state calls issued to {@link RenderSystem} during the last frame.
+	 *
+	 * @return the number of issued calls
+	 */
+	public static int getIssuedCalls() {
+		return lastFrameIssuedCalls;
+	}
+
+	/**
+	 * Returns the number of state calls skipped during the last frame.
+	 *
+	 * @return the number of elided calls
+	 */
+	public static int getElidedCalls() {
+		return lastFrameElidedCalls;
+	}
+
+	private static boolean elide(boolean redundant) {
+		if (redundant)
+			elidedCalls++;
+		else
+			issuedCalls++;
+		return redundant;
+	}
+
+	/* Shader */
+
+	public static void setShader(Supplier<ShaderProgram> shaderSupplier) {
+		if (!elide(RenderSystem.getShader() == shaderSupplier.get()))
+			RenderSystem.setShader(shaderSupplier);
+	}
+
+	public static void setShaderColor(float red, float green, float blue, float alpha) {
+		float[] color = RenderSystem.getShaderColor();
+		if (!elide(color[0] == red && color[1] == green && color[2] == blue && color[3] == alpha))
+			RenderSystem.setShaderColor(red, green, blue, alpha);
+	}
+
+	public static void setShaderTexture(int texture, Identifier id) {
+		if (texture < 0 || texture >= SHADER_TEXTURES) {
+			elide(false);
+			RenderSystem.setShaderTexture(texture, id);
+			return;
+		}
+
+		if (!elide(id.equals(shaderTextureIds[texture]) && RenderSystem.getShaderTexture(texture) == shaderTextureGlIds[texture])) {
+			RenderSystem.setShaderTexture(texture, id);
+			shaderTextureIds[texture] = id;
+			shaderTextureGlIds[texture] = RenderSystem.getShaderTexture(texture);
+		}
+	}
+
+	/* Texture */
+
+	public static void enableTexture() {
+		if (!elide(texture == 1))
+			RenderSystem.enableTexture();
+	}
+
+	public static void disableTexture() {
+		if (!elide(texture == 0))
+			RenderSystem.disableTexture();
+	}
+
+	/* Blend */
+
+	public static void enableBlend() {
+		if (!elide(blend == 1))
+			RenderSystem.enableBlend();
+	}
+
+	public static void disableBlend() {
+		if (!elide(blend == 0))
+			RenderSystem.disableBlend();
+	}
+
+	public static void defaultBlendFunc() {
+		if (!elide(defaultBlendFunc != null && Arrays.equals(blendFunc, defaultBlendFunc))) {
+			RenderSystem.defaultBlendFunc();
+			if (blendFunc[0] != UNKNOWN)
+				defaultBlendFunc = blendFunc.clone();
+		}
+	}
+
+	public static void blendFunc(int srcFactor, int dstFactor) {
+		if (!elide(isBlendFunc(srcFactor, dstFactor, srcFactor, dstFactor)))
+			RenderSystem.blendFunc(srcFactor, dstFactor);
+	}
+
+	public static void blendFuncSeparate(int srcFactorRGB, int dstFactorRGB, int srcFactorAlpha, int dstFactorAlpha) {
+		if (!elide(isBlendFunc(srcFactorRGB, dstFactorRGB, srcFactorAlpha, dstFactorAlpha)))
+			RenderSystem.blendFuncSeparate(srcFactorRGB, dstFactorRGB, srcFactorAlpha, dstFactorAlpha);
+	}
+
+	private static boolean isBlendFunc(int srcFactorRGB, int dstFactorRGB, int srcFactorAlpha, int dstFactorAlpha) {
+		return blendFunc[0] == srcFactorRGB && blendFunc[1] == dstFactorRGB && blendFunc[2] == srcFactorAlpha && blendFunc[3] == dstFactorAlpha;
+	}
+
+	/* Logic operation */
+
+	public static void enableColorLogicOp() {
+		if (!elide(colorLogicOp == 1))
+			RenderSystem.enableColorLogicOp();
+	}
+
+	public static void disableColorLogicOp() {
+		if (!elide(colorLogicOp == 0))
+			RenderSystem.disableColorLogicOp();
+	}
+
+	public static void logicOp(GlStateManager.LogicOp op) {
+		if (!elide(logicOp == op.value))
+			RenderSystem.logicOp(op);
+	}
+
+	/* Mirroring, called by the state manager injection */
+
+	@ApiStatus.Internal
+	public static void mirrorTexture(boolean enabled) {
+		texture = (byte) (enabled ? 1 : 0);
+	}
+
+	@ApiStatus.Internal
+	public static void mirrorActiveTexture() {
+		// The texture state is per texture unit.
+		texture = UNKNOWN;
+	}
+
+	@ApiStatus.Internal
+	public static void mirrorBlend(boolean enabled) {
+		blend = (byte) (enabled ? 1 : 0);
+	}
+
+	@ApiStatus.Internal
+	public static void mirrorBlendFunc(int srcFactorRGB, int dstFactorRGB, int srcFactorAlpha, int dstFactorAlpha) {
+		blendFunc[0] = srcFactorRGB;
+		blendFunc[1] = dstFactorRGB;
+		blendFunc[2] = srcFactorAlpha;
+		blendFunc[3] = dstFactorAlpha;
+	}
+
+	@ApiStatus.Internal
+	public static void mirrorColorLogicOp(boolean enabled) {
+		colorLogicOp = (byte) (enabled ? 1 : 0);
+	}
+
+	@ApiStatus.Internal
+	public static void mirrorLogicOp(int op) {
+		logicOp = op;
+	}
+}
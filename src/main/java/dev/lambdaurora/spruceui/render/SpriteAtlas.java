@@ -0,0 +1,254 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.render;
+
+import com.mojang.blaze3d.texture.NativeImage;
+import dev.lambdaurora.spruceui.SpruceUI;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawableHelper;
+import net.minecraft.client.texture.NativeImageBackedTexture;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents an atlas stitching widget textures together, so widgets drawing different textures share a single texture binding.
+ * <p>
+ * The registered textures are only stitched when the resources are reloaded, never while drawing.
+ * Textures registered since the last reload, or which cannot be loaded or don't fit, are drawn from their own texture instead.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class SpriteAtlas {
+	private static final SpriteAtlas WIDGETS = new SpriteAtlas(new Identifier("spruceui", "textures/atlas/widgets.png"),
+			new AtlasPacker(2048, 1));
+
+	private final Identifier id;
+	private final AtlasPacker packer;
+	private final Set<Identifier> textures = new LinkedHashSet<>();
+	private Map<Identifier, Sprite> sprites = Collections.emptyMap();
+
+	public SpriteAtlas(Identifier id, AtlasPacker packer) {
+		this.id = id;
+		this.packer = packer;
+	}
+
+	/**
+	 * Returns the atlas of the widget textures.
+	 *
+	 * @return the widget atlas
+	 */
+	public static SpriteAtlas get() {
+		return WIDGETS;
+	}
+
+	/**
+	 * Returns the identifier of the atlas texture.
+	 *
+	 * @return the identifier of the atlas texture
+	 */
+	public Identifier getId() {
+		return this.id;
+	}
+
+	/**
+	 * Registers a texture to stitch into this atlas on the next resource reload.
+	 *
+	 * @param texture the identifier of the texture
+	 */
+	public void register(Identifier texture) {
+		this.textures.add(texture);
+	}
+
+	/**
+	 * Returns the sprite of the given texture in this atlas.
+	 *
+	 * @param texture the identifier of the texture
+	 * @return the sprite, or {@code null} if the texture is not stitched into this atlas
+	 */
+	public @Nullable Sprite getSprite(Identifier texture) {
+		return this.sprites.get(texture);
+	}
+
+	/**
+	 * Stitches the registered textures and uploads the atlas.
+	 *
+	 * @param manager the resource manager to load the textures from
+	 */
+	public void reload(ResourceManager manager) {
+		var loadedTextures = new ArrayList<Identifier>();
+		var images = new ArrayList<NativeImage>();
+		try {
+			for (var texture : this.textures) {
+				var resource = manager.getResource(texture);
+				if (resource.isEmpty())
+					continue;
+
+				try (var stream = resource.get().open()) {
+					images.add(NativeImage.read(NativeImage.Format.RGBA, stream));
+					loadedTextures.add(texture);
+				} catch (IOException e) {
+					SpruceUI.LOGGER.warn("Could not load texture {} into the atlas {}.", texture, this.id, e);
+				}
+			}
+
+			this.sprites = Collections.emptyMap();
+			if (images.isEmpty())
+				return;
+
+			var layout = this.stitch(loadedTextures, images);
+			if (layout == null) {
+				SpruceUI.LOGGER.warn("Could not fit {} textures into the atlas {}.", images.size(), this.id);
+				return;
+			}
+
+			var atlas = new NativeImage(layout.getWidth(), layout.getHeight(), true);
+			for (int i = 0; i < images.size(); i++) {
+				var image = images.get(i);
+				image.copyRect(atlas, 0, 0, layout.getX(i), layout.getY(i), image.getWidth(), image.getHeight(), false, false);
+			}
+			MinecraftClient.getInstance().getTextureManager().registerTexture(this.id, new NativeImageBackedTexture(atlas));
+		} finally {
+			images.forEach(NativeImage::close);
+		}
+	}
+
+	private @Nullable AtlasPacker.Layout stitch(List<Identifier> textures, List<NativeImage> images) {
+		int[] widths = new int[images.size()];
+		int[] heights = new int[images.size()];
+		for (int i = 0; i < images.size(); i++) {
+			widths[i] = images.get(i).getWidth();
+			heights[i] = images.get(i).getHeight();
+		}
+
+		var layout = this.packer.pack(widths, heights);
+		if (layout != null)
+			this.sprites = createSprites(textures, widths, heights, layout);
+		return layout;
+	}
+
+	/**
+	 * Creates the sprites of the given textures from their packed layout.
+	 *
+	 * @param textures the identifiers of the textures
+	 * @param widths the widths of the textures
+	 * @param heights the heights of the textures
+	 * @param layout the layout of the textures in the atlas
+	 * @return the sprites by texture identifier
+	 */
+	public static Map<Identifier, Sprite> createSprites(List<Identifier> textures, int[] widths, int[] heights, AtlasPacker.Layout layout) {
+		var sprites = new HashMap<Identifier, Sprite>();
+		for (int i = 0; i < textures.size(); i++) {
+			sprites.put(textures.get(i), new Sprite(layout.getX(i), layout.getY(i), widths[i], heights[i], layout.getWidth(), layout.getHeight()));
+		}
+		return sprites;
+	}
+
+	/**
+	 * Draws a region of the given texture, from this atlas if the texture is stitched into it.
+	 *
+	 * @param matrices the matrix stack
+	 * @param texture the identifier of the texture
+	 * @param x the X-coordinate
+	 * @param y the Y-coordinate
+	 * @param u the left coordinate of the region in the texture
+	 * @param v the top coordinate of the region in the texture
+	 * @param width the width of the region
+	 * @param height the height of the region
+	 * @param textureWidth the width of the texture the region coordinates are expressed in
+	 * @param textureHeight the height of the texture the region coordinates are expressed in
+	 */
+	public void drawTexture(MatrixStack matrices, Identifier texture, int x, int y, float u, float v, int width, int height,
+			int textureWidth, int textureHeight) {
+		var sprite = this.getSprite(texture);
+		if (sprite == null) {
+			RenderStateTracker.setShaderTexture(0, texture);
+			DrawableHelper.drawTexture(matrices, x, y, u, v, width, height, textureWidth, textureHeight);
+			return;
+		}
+
+		// The texture coordinates may be expressed in another resolution than the one of the actual texture.
+		float scaleX = (float) sprite.width() / textureWidth;
+		float scaleY = (float) sprite.height() / textureHeight;
+		RenderStateTracker.setShaderTexture(0, this.id);
+		DrawableHelper.drawTexture(matrices, x, y, width, height,
+				sprite.x() + u * scaleX, sprite.y() + v * scaleY, Math.round(width * scaleX), Math.round(height * scaleY),
+				sprite.atlasWidth(), sprite.atlasHeight());
+	}
+
+	@Override
+	public String toString() {
+		return "SpriteAtlas{" +
+				"id=" + this.id +
+				", textures=" + this.textures.size() +
+				", sprites=" + this.sprites.size() +
+				'}';
+	}
+
+	/**
+	 * Represents the location of a texture in an atlas.
+	 *
+	 * @param x the X-coordinate of the texture in the atlas
+	 * @param y the Y-coordinate of the texture in the atlas
+	 * @param width the width of the texture
+	 * @param height the height of the texture
+	 * @param atlasWidth the width of the atlas
+	 * @param atlasHeight the height of the atlas
+	 */
+	public record Sprite(int x, int y, int width, int height, int atlasWidth, int atlasHeight) {
+		public float getMinU() {
+			return this.getU(0.f);
+		}
+
+		public float getMaxU() {
+			return this.getU(1.f);
+		}
+
+		public float getMinV() {
+			return this.getV(0.f);
+		}
+
+		public float getMaxV() {
+			return this.getV(1.f);
+		}
+
+		/**
+		 * Returns the atlas U coordinate of the given coordinate relative to the texture.
+		 *
+		 * @param u the U coordinate in the texture, from 0 to 1
+		 * @return the U coordinate in the atlas
+		 */
+		public float getU(float u) {
+			return (this.x + u * this.width) / this.atlasWidth;
+		}
+
+		/**
+		 * Returns the atlas V coordinate of the given coordinate relative to the texture.
+		 *
+		 * @param v the V coordinate in the texture, from 0 to 1
+		 * @return the V coordinate in the atlas
+		 */
+		public float getV(float v) {
+			return (this.y + v * this.height) / this.atlasHeight;
+		}
+	}
+}
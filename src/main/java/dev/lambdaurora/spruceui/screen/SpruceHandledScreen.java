@@ -12,6 +12,9 @@ package dev.lambdaurora.spruceui.screen;
 import dev.lambdaurora.spruceui.SprucePositioned;
 import dev.lambdaurora.spruceui.Tooltip;
 import dev.lambdaurora.spruceui.navigation.NavigationDirection;
+import dev.lambdaurora.spruceui.navigation.NavigationUtils;
+import dev.lambdaurora.spruceui.profiler.RenderMetrics;
+import dev.lambdaurora.spruceui.profiler.jfr.ScreenRenderEvent;
 import dev.lambdaurora.spruceui.util.ScissorManager;
 import dev.lambdaurora.spruceui.widget.SpruceElement;
 import dev.lambdaurora.spruceui.widget.SpruceWidget;
@@ -33,7 +36,7 @@ import java.util.function.Supplier;
  *
  * @param <T> the type of the screen handler
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 3.3.0
  */
 public abstract class SpruceHandledScreen<T extends ScreenHandler> extends HandledScreen<T> implements SprucePositioned, SpruceElement {
@@ -105,7 +108,7 @@ public abstract class SpruceHandledScreen<T extends ScreenHandler> extends Handl
 
 	private boolean tryNavigating(Element element, NavigationDirection direction, boolean tab) {
 		if (element instanceof SpruceElement) {
-			return ((SpruceElement) element).onNavigation(direction, tab);
+			return NavigationUtils.navigate((SpruceElement) element, direction, tab);
 		}
 		return element.changeFocus(direction.isLookingForward());
 	}
@@ -114,12 +117,24 @@ public abstract class SpruceHandledScreen<T extends ScreenHandler> extends Handl
 
 	@Override
 	public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+		var event = new ScreenRenderEvent();
+		event.begin();
+		boolean metrics = RenderMetrics.isEnabled();
+		if (metrics)
+			RenderMetrics.push(this);
 		ScissorManager.pushScaleFactor(this.scaleFactor);
 		super.render(matrices, mouseX, mouseY, delta);
 		this.renderWidgets(matrices, mouseX, mouseY, delta);
 		this.renderTitle(matrices, mouseX, mouseY, delta);
 		Tooltip.renderAll(this, matrices);
 		ScissorManager.popScaleFactor();
+		if (metrics)
+			RenderMetrics.pop();
+		if (event.shouldCommit()) {
+			event.screen = this.getClass().getName();
+			event.widgetCount = this.children().size();
+			event.commit();
+		}
 	}
 
 	public void renderTitle(MatrixStack matrices, int mouseX, int mouseY, float delta) {
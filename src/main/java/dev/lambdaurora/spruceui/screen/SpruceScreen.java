@@ -12,6 +12,10 @@ package dev.lambdaurora.spruceui.screen;
 import dev.lambdaurora.spruceui.SprucePositioned;
 import dev.lambdaurora.spruceui.Tooltip;
 import dev.lambdaurora.spruceui.navigation.NavigationDirection;
+import dev.lambdaurora.spruceui.navigation.NavigationUtils;
+import dev.lambdaurora.spruceui.profiler.RenderMetrics;
+import dev.lambdaurora.spruceui.profiler.jfr.ScreenRenderEvent;
+import dev.lambdaurora.spruceui.render.RenderBackend;
 import dev.lambdaurora.spruceui.util.ScissorManager;
 import dev.lambdaurora.spruceui.widget.SpruceElement;
 import dev.lambdaurora.spruceui.widget.SpruceWidget;
@@ -29,7 +33,7 @@ import java.util.function.Supplier;
  * Represents a screen.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 2.0.0
  */
 public abstract class SpruceScreen extends Screen implements SprucePositioned, SpruceElement {
@@ -100,7 +104,7 @@ public abstract class SpruceScreen extends Screen implements SprucePositioned, S
 
 	private boolean tryNavigating(Element element, NavigationDirection direction, boolean tab) {
 		if (element instanceof SpruceElement) {
-			return ((SpruceElement) element).onNavigation(direction, tab);
+			return NavigationUtils.navigate((SpruceElement) element, direction, tab);
 		}
 		return element.changeFocus(direction.isLookingForward());
 	}
@@ -109,12 +113,25 @@ public abstract class SpruceScreen extends Screen implements SprucePositioned, S
 
 	@Override
 	public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+		var event = new ScreenRenderEvent();
+		event.begin();
+		boolean metrics = RenderMetrics.isEnabled();
+		if (metrics)
+			RenderMetrics.push(this);
 		ScissorManager.pushScaleFactor(this.scaleFactor);
 		this.renderBackground(matrices);
 		this.renderWidgets(matrices, mouseX, mouseY, delta);
 		this.renderTitle(matrices, mouseX, mouseY, delta);
+		RenderBackend.get().flush();
 		Tooltip.renderAll(this, matrices);
 		ScissorManager.popScaleFactor();
+		if (metrics)
+			RenderMetrics.pop();
+		if (event.shouldCommit()) {
+			event.screen = this.getClass().getName();
+			event.widgetCount = this.children().size();
+			event.commit();
+		}
 	}
 
 	public void renderTitle(MatrixStack matrices, int mouseX, int mouseY, float delta) {
@@ -125,5 +142,6 @@ public abstract class SpruceScreen extends Screen implements SprucePositioned, S
 			if (element instanceof Drawable drawable)
 				drawable.render(matrices, mouseX, mouseY, delta);
 		}
+		RenderBackend.get().flush();
 	}
 }
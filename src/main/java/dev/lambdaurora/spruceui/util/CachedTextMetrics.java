@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.util;
+
+import it.unimi.dsi.fastutil.ints.Int2FloatOpenHashMap;
+import net.minecraft.client.MinecraftClient;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+
+/**
+ * Represents text metrics caching the advance of each code point.
+ * <p>
+ * Basic Latin advances are stored in a flat table, other code points in a hash map.
+ * Text containing formatting codes is delegated to the fallback metrics if present, as formatting changes the advances.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class CachedTextMetrics implements TextMetrics {
+	private static final int BASIC_LATIN_END = 0x80;
+	private static final char FORMATTING_CODE_PREFIX = '§';
+
+	private final AdvanceProvider advanceProvider;
+	private final IntSupplier fontHeightGetter;
+	private final @Nullable TextMetrics formattedFallback;
+	private final float[] basicLatinAdvances = new float[BASIC_LATIN_END];
+	private final Int2FloatOpenHashMap advances = new Int2FloatOpenHashMap();
+
+	public CachedTextMetrics(AdvanceProvider advanceProvider, int fontHeight) {
+		this(advanceProvider, () -> fontHeight, null);
+	}
+
+	public CachedTextMetrics(AdvanceProvider advanceProvider, IntSupplier fontHeightGetter, @Nullable TextMetrics formattedFallback) {
+		this.advanceProvider = advanceProvider;
+		this.fontHeightGetter = fontHeightGetter;
+		this.formattedFallback = formattedFallback;
+		this.advances.defaultReturnValue(Float.NaN);
+		this.invalidate();
+	}
+
+	/**
+	 * Creates text metrics backed by the client font renderer.
+	 *
+	 * @return the text metrics
+	 */
+	public static CachedTextMetrics client() {
+		return new CachedTextMetrics(CachedTextMetrics::getClientAdvance, CachedTextMetrics::getClientFontHeight, new ClientTextMetrics());
+	}
+
+	@Override
+	public int getFontHeight() {
+		return this.fontHeightGetter.getAsInt();
+	}
+
+	/**
+	 * Returns the advance of the given code point.
+	 *
+	 * @param codePoint the code point
+	 * @return the advance
+	 */
+	public float getAdvance(int codePoint) {
+		float advance;
+		if (codePoint >= 0 && codePoint < BASIC_LATIN_END) {
+			advance = this.basicLatinAdvances[codePoint];
+			if (Float.isNaN(advance))
+				advance = this.basicLatinAdvances[codePoint] = this.advanceProvider.getAdvance(codePoint);
+		} else {
+			advance = this.advances.get(codePoint);
+			if (Float.isNaN(advance)) {
+				advance = this.advanceProvider.getAdvance(codePoint);
+				this.advances.put(codePoint, advance);
+			}
+		}
+		return advance;
+	}
+
+	@Override
+	public int getWidth(String text) {
+		if (this.shouldFallback(text))
+			return this.formattedFallback.getWidth(text);
+
+		float width = 0.f;
+		for (int i = 0; i < text.length(); ) {
+			int codePoint = text.codePointAt(i);
+			width += this.getAdvance(codePoint);
+			i += Character.charCount(codePoint);
+		}
+		return (int) Math.ceil(width);
+	}
+
+	@Override
+	public String trimToWidth(String text, int width, boolean backwards) {
+		if (this.shouldFallback(text))
+			return this.formattedFallback.trimToWidth(text, width, backwards);
+
+		float widthLeft = width;
+		if (backwards) {
+			for (int i = text.length(); i > 0; ) {
+				int codePoint = text.codePointBefore(i);
+				widthLeft -= this.getAdvance(codePoint);
+				if (widthLeft < 0)
+					return text.substring(i);
+				i -= Character.charCount(codePoint);
+			}
+		} else {
+			for (int i = 0; i < text.length(); ) {
+				int codePoint = text.codePointAt(i);
+				widthLeft -= this.getAdvance(codePoint);
+				if (widthLeft < 0)
+					return text.substring(0, i);
+				i += Character.charCount(codePoint);
+			}
+		}
+		return text;
+	}
+
+	@Override
+	public void invalidate() {
+		Arrays.fill(this.basicLatinAdvances, Float.NaN);
+		this.advances.clear();
+	}
+
+	private boolean shouldFallback(String text) {
+		return this.formattedFallback != null && text.indexOf(FORMATTING_CODE_PREFIX) != -1;
+	}
+
+	private static float getClientAdvance(int codePoint) {
+		var client = MinecraftClient.getInstance();
+		if (client == null || client.textRenderer == null)
+			return 0.f;
+		return client.textRenderer.getTextHandler().getWidth(Character.toString(codePoint));
+	}
+
+	private static int getClientFontHeight() {
+		var client = MinecraftClient.getInstance();
+		if (client == null || client.textRenderer == null)
+			return 9;
+		return client.textRenderer.fontHeight;
+	}
+
+	/**
+	 * Provides the advance of code points.
+	 */
+	@FunctionalInterface
+	public interface AdvanceProvider {
+		/**
+		 * Returns the advance of the given code point.
+		 *
+		 * @param codePoint the code point
+		 * @return the advance
+		 */
+		float getAdvance(int codePoint);
+	}
+
+	/**
+	 * Text metrics directly querying the client font renderer, used for formatted text.
+	 */
+	private static final class ClientTextMetrics implements TextMetrics {
+		@Override
+		public int getFontHeight() {
+			return getClientFontHeight();
+		}
+
+		@Override
+		public int getWidth(String text) {
+			return MinecraftClient.getInstance().textRenderer.getWidth(text);
+		}
+
+		@Override
+		public String trimToWidth(String text, int width, boolean backwards) {
+			return MinecraftClient.getInstance().textRenderer.trimToWidth(text, width, backwards);
+		}
+
+		@Override
+		public void invalidate() {
+		}
+	}
+
+	static final class Holder {
+		static TextMetrics instance = client();
+
+		private Holder() {
+			throw new UnsupportedOperationException("Holder only contains static definitions.");
+		}
+	}
+}
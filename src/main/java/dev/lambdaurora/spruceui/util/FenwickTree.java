@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.util;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Represents a Fenwick tree (binary indexed tree) of integer values.
+ * <p>
+ * Point updates, prefix sums and offset lookups run in {@code O(log n)}, appending runs in {@code O(log n)} amortized.
+ * Inserting or removing values in the middle requires a {@link #rebuild(int, IntUnaryOperator) rebuild}.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class FenwickTree {
+	private int[] values;
+	private int[] tree;
+	private int size;
+
+	public FenwickTree() {
+		this(16);
+	}
+
+	public FenwickTree(int capacity) {
+		this.values = new int[Math.max(1, capacity)];
+		this.tree = new int[this.values.length + 1];
+	}
+
+	/**
+	 * Returns the number of values.
+	 *
+	 * @return the number of values
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the value at the given index.
+	 *
+	 * @param index the index
+	 * @return the value
+	 */
+	public int get(int index) {
+		this.checkIndex(index);
+		return this.values[index];
+	}
+
+	/**
+	 * Sets the value at the given index.
+	 *
+	 * @param index the index
+	 * @param value the new value
+	 */
+	public void set(int index, int value) {
+		this.checkIndex(index);
+		int delta = value - this.values[index];
+		if (delta == 0)
+			return;
+		this.values[index] = value;
+		for (int i = index + 1; i <= this.size; i += i & -i)
+			this.tree[i] += delta;
+	}
+
+	/**
+	 * Appends a value.
+	 *
+	 * @param value the value to append
+	 */
+	public void add(int value) {
+		this.ensureCapacity(this.size + 1);
+		int index = this.size + 1;
+		this.values[this.size] = value;
+		this.size = index;
+		// The node covers the values in (index - lowbit(index), index].
+		this.tree[index] = value + this.prefixSum(index - 1) - this.prefixSum(index - (index & -index));
+	}
+
+	/**
+	 * Removes the last value.
+	 */
+	public void removeLast() {
+		if (this.size == 0)
+			throw new IndexOutOfBoundsException("Cannot remove from an empty tree.");
+		this.values[--this.size] = 0;
+		this.tree[this.size + 1] = 0;
+	}
+
+	/**
+	 * Removes all the values.
+	 */
+	public void clear() {
+		Arrays.fill(this.values, 0, this.size, 0);
+		Arrays.fill(this.tree, 0, this.size + 1, 0);
+		this.size = 0;
+	}
+
+	/**
+	 * Rebuilds the tree in linear time from the given values.
+	 *
+	 * @param size the new number of values
+	 * @param valueGetter the getter of the value at a given index
+	 */
+	public void rebuild(int size, IntUnaryOperator valueGetter) {
+		this.clear();
+		this.ensureCapacity(size);
+		this.size = size;
+		for (int i = 0; i < size; i++) {
+			this.values[i] = valueGetter.applyAsInt(i);
+			this.tree[i + 1] = this.values[i];
+		}
+		for (int i = 1; i <= size; i++) {
+			int parent = i + (i & -i);
+			if (parent <= size)
+				this.tree[parent] += this.tree[i];
+		}
+	}
+
+	/**
+	 * Returns the sum of the first values.
+	 *
+	 * @param count the number of values to sum
+	 * @return the sum of the {@code count} first values
+	 */
+	public int prefixSum(int count) {
+		if (count < 0 || count > this.size)
+			throw new IndexOutOfBoundsException("Count " + count + " out of bounds for size " + this.size);
+		int sum = 0;
+		for (int i = count; i > 0; i -= i & -i)
+			sum += this.tree[i];
+		return sum;
+	}
+
+	/**
+	 * Returns the sum of all the values.
+	 *
+	 * @return the total
+	 */
+	public int total() {
+		return this.prefixSum(this.size);
+	}
+
+	/**
+	 * Returns the index of the value containing the given offset, values being laid out one after another.
+	 * <p>
+	 * An offset on the boundary of two values belongs to the later one, values must not be negative.
+	 *
+	 * @param offset the offset
+	 * @return the index of the value containing the offset, or {@link #size()} if the offset is past the total
+	 */
+	public int indexOf(int offset) {
+		if (offset < 0)
+			return 0;
+
+		int index = 0;
+		for (int step = Integer.highestOneBit(Math.max(1, this.size)); step != 0; step >>= 1) {
+			int next = index + step;
+			if (next <= this.size && this.tree[next] <= offset) {
+				index = next;
+				offset -= this.tree[next];
+			}
+		}
+		return index;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > this.values.length) {
+			int newCapacity = Math.max(capacity, this.values.length * 2);
+			this.values = Arrays.copyOf(this.values, newCapacity);
+			this.tree = Arrays.copyOf(this.tree, newCapacity + 1);
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size)
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+	}
+
+	@Override
+	public String toString() {
+		return "FenwickTree{" +
+				"size=" + this.size +
+				", total=" + this.total() +
+				'}';
+	}
+}
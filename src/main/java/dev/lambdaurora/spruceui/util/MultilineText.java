@@ -9,40 +9,63 @@
 
 package dev.lambdaurora.spruceui.util;
 
-import net.minecraft.client.MinecraftClient;
+import dev.lambdaurora.spruceui.profiler.jfr.TextWrapEvent;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
 /**
  * Represents a multiline text.
+ * <p>
+ * The text is stored in a {@link TextBuffer} and exposed as wrapped rows,
+ * every row which ends a hard line keeps its trailing line feed so the sum of the row lengths is the text length.
+ * <p>
+ * In incremental wrapping mode, edits only re-wrap the paragraphs they touch and splice the resulting rows back in.
+ * The row lengths are indexed in a {@link FenwickTree} so offset and row lookups run in {@code O(log n)}.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 1.6.3
  */
 public final class MultilineText {
+	private final TextBuffer buffer;
 	private final List<String> rows = new ArrayList<>();
+	private final FenwickTree rowLengths = new FenwickTree();
 	private int width;
+	private boolean incrementalWrapping = true;
 
 	public MultilineText(int width) {
-		this.width = width;
+		this(TextBuffer.rope(), width);
 	}
 
 	public MultilineText(int width, @Nullable String text) {
 		this(width);
 		if (text == null)
 			return;
-		this.rows.addAll(wrap(text, width));
+		this.setText(text);
 	}
 
 	public MultilineText(int width, Collection<? extends String> lines) {
 		this(width);
-		this.rows.addAll(wrap(lines, width));
+		this.setLines(lines);
+	}
+
+	/**
+	 * Creates a new multiline text backed by the given text buffer.
+	 *
+	 * @param buffer the text buffer
+	 * @param width the maximum width
+	 * @since 3.3.1
+	 */
+	public MultilineText(TextBuffer buffer, int width) {
+		this.buffer = buffer;
+		this.width = width;
+		this.recompute();
 	}
 
 	/**
@@ -66,28 +89,53 @@ public final class MultilineText {
 		}
 	}
 
-	public List<String> getRows() {
-		return this.rows;
+	/**
+	 * Returns whether edits only re-wrap the paragraphs they touch.
+	 *
+	 * @return {@code true} if the wrapping is incremental, else {@code false}
+	 * @since 3.3.1
+	 */
+	public boolean isIncrementalWrapping() {
+		return this.incrementalWrapping;
 	}
 
-	public List<String> getLines() {
-		var lines = new ArrayList<String>();
+	/**
+	 * Sets whether edits only re-wrap the paragraphs they touch, or the whole text.
+	 *
+	 * @param incrementalWrapping {@code true} if the wrapping is incremental, else {@code false}
+	 * @since 3.3.1
+	 */
+	public void setIncrementalWrapping(boolean incrementalWrapping) {
+		this.incrementalWrapping = incrementalWrapping;
+	}
 
-		var stringBuilder = new StringBuilder();
-		for (var row : this.rows) {
-			stringBuilder.append(row.replace("\n", ""));
-			if (row.endsWith("\n")) {
-				lines.add(stringBuilder.toString());
-				stringBuilder = new StringBuilder();
-			}
-		}
+	/**
+	 * Returns the text buffer backing this multiline text.
+	 *
+	 * @return the text buffer
+	 * @since 3.3.1
+	 */
+	public TextBuffer getBuffer() {
+		return this.buffer;
+	}
 
-		return lines;
+	/**
+	 * Returns the wrapped rows.
+	 *
+	 * @return the unmodifiable wrapped rows
+	 */
+	public List<String> getRows() {
+		return Collections.unmodifiableList(this.rows);
+	}
+
+	public List<String> getLines() {
+		if (this.buffer.isEmpty())
+			return new ArrayList<>();
+		return new ArrayList<>(Arrays.asList(this.buffer.toString().split("\n", -1)));
 	}
 
 	public void setLines(Collection<? extends String> lines) {
-		this.clear();
-		this.addAll(wrap(lines, this.width));
+		this.setText(String.join("\n", lines));
 	}
 
 	/**
@@ -96,10 +144,19 @@ public final class MultilineText {
 	 * @return The text.
 	 */
 	public String getText() {
-		var builder = new StringBuilder();
-		for (var row : this.rows)
-			builder.append(row);
-		return builder.toString();
+		return this.buffer.toString();
+	}
+
+	/**
+	 * Returns the text between the given offsets.
+	 *
+	 * @param start the start offset, inclusive
+	 * @param end the end offset, exclusive
+	 * @return the text between the given offsets
+	 * @since 3.3.1
+	 */
+	public String getText(int start, int end) {
+		return this.buffer.substring(start, end);
 	}
 
 	/**
@@ -108,23 +165,138 @@ public final class MultilineText {
 	 * @param text The text.
 	 */
 	public void setText(String text) {
-		this.clear();
-		this.add(text);
+		this.buffer.set(text);
+		this.recompute();
+	}
+
+	/**
+	 * Returns the length of the text.
+	 *
+	 * @return the length of the text
+	 * @since 3.3.1
+	 */
+	public int length() {
+		return this.buffer.length();
+	}
+
+	/**
+	 * Inserts text at the given offset.
+	 *
+	 * @param offset the offset
+	 * @param text the text to insert
+	 * @since 3.3.1
+	 */
+	public void insert(int offset, String text) {
+		this.replace(offset, offset, text);
+	}
+
+	/**
+	 * Deletes the text between the given offsets.
+	 *
+	 * @param start the start offset, inclusive
+	 * @param end the end offset, exclusive
+	 * @since 3.3.1
+	 */
+	public void delete(int start, int end) {
+		this.replace(start, end, "");
+	}
+
+	/**
+	 * Replaces the text between the given offsets.
+	 *
+	 * @param start the start offset, inclusive
+	 * @param end the end offset, exclusive
+	 * @param text the replacement text
+	 * @since 3.3.1
+	 */
+	public void replace(int start, int end, String text) {
+		if (start == end && text.isEmpty())
+			return;
+
+		if (!this.incrementalWrapping) {
+			this.buffer.replace(start, end, text);
+			this.recompute();
+			return;
+		}
+
+		var event = new TextWrapEvent();
+		event.begin();
+
+		int firstRow = this.getParagraphStartRow(this.getRowAt(start));
+		int lastRow = this.getParagraphEndRow(this.getRowAt(end > start ? end - 1 : start));
+		int regionStart = this.getRowStart(firstRow);
+		int regionEnd = this.getRowStart(lastRow) + this.rows.get(lastRow).length();
+
+		this.buffer.replace(start, end, text);
+		regionEnd += text.length() - (end - start);
+
+		// The edit removed the line feed ending the region, the next paragraph got merged into it.
+		if (lastRow < this.rows.size() - 1 && regionEnd > regionStart && this.buffer.charAt(regionEnd - 1) != '\n') {
+			int nextLastRow = this.getParagraphEndRow(lastRow + 1);
+			for (int row = lastRow + 1; row <= nextLastRow; row++)
+				regionEnd += this.rows.get(row).length();
+			lastRow = nextLastRow;
+		}
+
+		var wrapped = new ArrayList<String>();
+		this.wrapRegion(this.buffer.substring(regionStart, regionEnd), lastRow == this.rows.size() - 1, wrapped);
+
+		var region = this.rows.subList(firstRow, lastRow + 1);
+		boolean sameRowCount = region.size() == wrapped.size();
+		region.clear();
+		region.addAll(wrapped);
+
+		if (sameRowCount) {
+			for (int row = firstRow; row <= lastRow; row++)
+				this.rowLengths.set(row, this.rows.get(row).length());
+		} else {
+			this.rebuildRowIndex();
+		}
+
+		this.commitWrapEvent(event, regionEnd - regionStart, true);
 	}
 
 	/**
 	 * Recomputes the lines wrapping.
 	 */
 	public void recompute() {
-		var text = this.getText();
-		this.clear();
-		this.add(text);
+		var event = new TextWrapEvent();
+		event.begin();
+		this.rows.clear();
+		this.wrapRegion(this.buffer.toString(), true, this.rows);
+		this.rebuildRowIndex();
+		this.commitWrapEvent(event, this.buffer.length(), false);
+	}
+
+	private void commitWrapEvent(TextWrapEvent event, int wrappedLength, boolean incremental) {
+		if (event.shouldCommit()) {
+			event.textLength = this.buffer.length();
+			event.wrappedLength = wrappedLength;
+			event.width = this.width;
+			event.rows = this.rows.size();
+			event.incremental = incremental;
+			event.commit();
+		}
 	}
 
+	private void rebuildRowIndex() {
+		this.rowLengths.rebuild(this.rows.size(), row -> this.rows.get(row).length());
+	}
+
+	/**
+	 * Returns whether the text is empty.
+	 *
+	 * @return {@code true} if the text is empty, else {@code false}
+	 */
 	public boolean isEmpty() {
-		return this.rows.isEmpty();
+		return this.buffer.isEmpty();
 	}
 
+	/**
+	 * Returns the number of rows, an empty text has a single empty row.
+	 *
+	 * @return the number of rows
+	 */
 	public int size() {
 		return this.rows.size();
 	}
@@ -133,8 +305,59 @@ public final class MultilineText {
 		return this.rows.get(row);
 	}
 
+	/**
+	 * Returns the offset in the text of the start of the given row.
+	 *
+	 * @param row the row
+	 * @return the offset of the row
+	 * @since 3.3.1
+	 */
+	public int getRowStart(int row) {
+		return this.rowLengths.prefixSum(row);
+	}
+
+	/**
+	 * Returns the row containing the given offset.
+	 * <p>
+	 * An offset on the boundary of two rows belongs to the later row.
+	 *
+	 * @param offset the offset in the text
+	 * @return the row
+	 * @since 3.3.1
+	 */
+	public int getRowAt(int offset) {
+		return Math.min(this.rowLengths.indexOf(offset), this.rows.size() - 1);
+	}
+
+	/**
+	 * Returns the first row of the paragraph the given row belongs to.
+	 *
+	 * @param row the row
+	 * @return the first row of the paragraph
+	 * @since 3.3.1
+	 */
+	public int getParagraphStartRow(int row) {
+		while (row > 0 && !this.rows.get(row - 1).endsWith("\n"))
+			row--;
+		return row;
+	}
+
+	/**
+	 * Returns the last row of the paragraph the given row belongs to.
+	 *
+	 * @param row the row
+	 * @return the last row of the paragraph
+	 * @since 3.3.1
+	 */
+	public int getParagraphEndRow(int row) {
+		while (row < this.rows.size() - 1 && !this.rows.get(row).endsWith("\n"))
+			row++;
+		return row;
+	}
+
 	public void addAll(Collection<? extends String> lines) {
-		this.rows.addAll(lines);
+		for (var line : lines)
+			this.add(line);
 	}
 
 	/**
@@ -143,10 +366,10 @@ public final class MultilineText {
 	 * @param line The line to add.
 	 */
 	public void add(String line) {
-		if (line.length() > 1)
-			this.rows.addAll(wrap(line, this.width));
+		if (this.isEmpty())
+			this.insert(0, line);
 		else
-			this.rows.add(line);
+			this.insert(this.length(), "\n" + line);
 	}
 
 	/**
@@ -156,7 +379,10 @@ public final class MultilineText {
 	 * @param line The line to add.
 	 */
 	public void add(int row, String line) {
-		this.rows.add(row, line);
+		if (row >= this.rows.size() || this.isEmpty())
+			this.add(line);
+		else
+			this.insert(this.getRowStart(row), line + "\n");
 	}
 
 	/**
@@ -168,7 +394,15 @@ public final class MultilineText {
 	public @Nullable String remove(int row) {
 		if (row < 0 || row >= this.rows.size())
 			return null;
-		return this.rows.remove(row);
+
+		var content = this.rows.get(row);
+		int start = this.getRowStart(row);
+		int end = start + content.length();
+		// Removing the last row also removes the line feed ending the previous one.
+		if (row == this.rows.size() - 1 && start > 0 && this.buffer.charAt(start - 1) == '\n')
+			start--;
+		this.delete(start, end);
+		return content;
 	}
 
 	/**
@@ -180,8 +414,8 @@ public final class MultilineText {
 	public void replaceRow(int row, String line) {
 		if (row < 0 || row >= this.rows.size())
 			return;
-		this.remove(row);
-		this.rows.add(row, line);
+		int start = this.getRowStart(row);
+		this.replace(start, start + this.rows.get(row).length(), line);
 	}
 
 	public void replaceRow(int row, Function<String, String> replacer) {
@@ -195,7 +429,45 @@ public final class MultilineText {
 	 * Clears the text.
 	 */
 	public void clear() {
-		this.rows.clear();
+		this.buffer.clear();
+		this.recompute();
+	}
+
+	/**
+	 * Wraps a region of the text into rows.
+	 *
+	 * @param region the region, made of whole paragraphs
+	 * @param atEnd {@code true} if the region goes up to the end of the text, else {@code false}
+	 * @param output the output rows
+	 */
+	private void wrapRegion(String region, boolean atEnd, List<String> output) {
+		int start = 0;
+		int end;
+		while ((end = region.indexOf('\n', start)) != -1) {
+			this.wrapParagraph(region.substring(start, end), output);
+			int last = output.size() - 1;
+			output.set(last, output.get(last) + "\n");
+			start = end + 1;
+		}
+
+		if (atEnd)
+			this.wrapParagraph(region.substring(start), output);
+	}
+
+	private void wrapParagraph(String paragraph, List<String> output) {
+		if (paragraph.isEmpty()) {
+			output.add(paragraph);
+			return;
+		}
+
+		var metrics = TextMetrics.get();
+		while (!paragraph.isEmpty()) {
+			var part = metrics.trimToWidth(paragraph, this.width);
+			if (part.isEmpty())
+				part = paragraph.substring(0, 1);
+			paragraph = paragraph.substring(part.length());
+			output.add(part);
+		}
 	}
 
 	public static Collection<? extends String> wrap(String text, int width) {
@@ -203,10 +475,7 @@ public final class MultilineText {
 	}
 
 	public static Collection<? extends String> wrap(Collection<? extends String> text, int width) {
-		var client = MinecraftClient.getInstance();
-		if (client == null)
-			return text;
-
+		var metrics = TextMetrics.get();
 		var lines = new ArrayList<String>();
 
 		for (String line : text) {
@@ -217,7 +486,7 @@ public final class MultilineText {
 
 			if (line.endsWith("\n")) line = line.substring(0, line.length() - 1);
 			while (!line.isEmpty()) {
-				var part = client.textRenderer.trimToWidth(line, width);
+				var part = metrics.trimToWidth(line, width);
 				line = line.substring(part.length());
 				lines.add(part);
 			}
@@ -9,10 +9,12 @@
 
 package dev.lambdaurora.spruceui.util;
 
-import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.Tessellator;
 import com.mojang.blaze3d.vertex.VertexFormat;
 import com.mojang.blaze3d.vertex.VertexFormats;
+import dev.lambdaurora.spruceui.render.BlendMode;
+import dev.lambdaurora.spruceui.render.RenderBackend;
+import dev.lambdaurora.spruceui.render.RenderStateTracker;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.render.GameRenderer;
 
@@ -52,9 +54,9 @@ public final class RenderUtil {
 	                                           int red, int green, int blue, int alpha) {
 		var tessellator = Tessellator.getInstance();
 		var bufferBuilder = tessellator.getBufferBuilder();
-		RenderSystem.setShader(GameRenderer::getPositionTexColorShader);
-		RenderSystem.setShaderColor(1.f, 1.f, 1.f, 1.f);
-		RenderSystem.setShaderTexture(0, Screen.OPTIONS_BACKGROUND_TEXTURE);
+		RenderStateTracker.setShader(GameRenderer::getPositionTexColorShader);
+		RenderStateTracker.setShaderColor(1.f, 1.f, 1.f, 1.f);
+		RenderStateTracker.setShaderTexture(0, Screen.OPTIONS_BACKGROUND_TEXTURE);
 
 		int right = x + width;
 		int bottom = y + height;
@@ -88,28 +90,11 @@ public final class RenderUtil {
 	 * @param alpha the alpha-component color value of the outer border
 	 */
 	public static void renderSelectionBox(int x, int y, int width, int height, int red, int green, int blue, int alpha) {
-		var tessellator = Tessellator.getInstance();
-		var bufferBuilder = tessellator.getBufferBuilder();
-		RenderSystem.disableTexture();
-
+		var backend = RenderBackend.get();
 		int top = y + height;
 		int right = x + width;
 
-		RenderSystem.setShader(GameRenderer::getPositionColorShader);
-		RenderSystem.setShaderColor(red / 255.f, green / 255.f, blue / 255.f, alpha / 255.f);
-		bufferBuilder.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION);
-		bufferBuilder.vertex(x, top, 0).next();
-		bufferBuilder.vertex(right, top, 0).next();
-		bufferBuilder.vertex(right, y, 0).next();
-		bufferBuilder.vertex(x, y, 0).next();
-		tessellator.draw();
-		RenderSystem.setShaderColor(0, 0, 0, 1.f);
-		bufferBuilder.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION);
-		bufferBuilder.vertex(x + 1, top - 1, 0).next();
-		bufferBuilder.vertex(right - 1, top - 1, 0).next();
-		bufferBuilder.vertex(right - 1, y + 1, 0).next();
-		bufferBuilder.vertex(x + 1, y + 1, 0).next();
-		tessellator.draw();
-		RenderSystem.enableTexture();
+		backend.fill(BlendMode.TRANSLUCENT, x, y, right, top, ColorUtil.packARGBColor(red, green, blue, alpha));
+		backend.fill(BlendMode.TRANSLUCENT, x + 1, y + 1, right - 1, top - 1, ColorUtil.BLACK);
 	}
 }
@@ -0,0 +1,292 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * Represents a text buffer backed by a rope.
+ * <p>
+ * The text is split into bounded chunks stored in an implicit treap ordered by offset,
+ * insertions and deletions run in {@code O(log n)} and small edits are done in place inside a chunk.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class RopeTextBuffer implements TextBuffer {
+	private static final int CHUNK_SIZE = 512;
+	private static final int MAX_CHUNK_SIZE = CHUNK_SIZE * 2;
+
+	private final SplittableRandom random = new SplittableRandom();
+	private Node root;
+
+	public RopeTextBuffer() {
+	}
+
+	public RopeTextBuffer(CharSequence text) {
+		this.insert(0, text);
+	}
+
+	@Override
+	public int length() {
+		return length(this.root);
+	}
+
+	@Override
+	public char charAt(int index) {
+		this.checkIndex(index, this.length());
+
+		var node = this.root;
+		while (true) {
+			int leftLength = length(node.left);
+			if (index < leftLength) {
+				node = node.left;
+			} else {
+				index -= leftLength;
+				if (index < node.chunk.length())
+					return node.chunk.charAt(index);
+				index -= node.chunk.length();
+				node = node.right;
+			}
+		}
+	}
+
+	@Override
+	public String substring(int start, int end) {
+		this.checkRange(start, end);
+		if (start == end)
+			return "";
+
+		var builder = new StringBuilder(end - start);
+		appendRange(this.root, start, end, builder);
+		return builder.toString();
+	}
+
+	@Override
+	public void insert(int offset, CharSequence text) {
+		this.checkIndex(offset, this.length() + 1);
+		if (text.isEmpty())
+			return;
+
+		if (insertInPlace(this.root, offset, text))
+			return;
+
+		var parts = split(this.root, offset);
+		this.root = merge(merge(parts[0], this.build(text)), parts[1]);
+	}
+
+	@Override
+	public void delete(int start, int end) {
+		this.checkRange(start, end);
+		if (start == end)
+			return;
+
+		if (deleteInPlace(this.root, start, end))
+			return;
+
+		var right = split(this.root, end);
+		var left = split(right[0], start);
+		this.root = merge(left[0], right[1]);
+	}
+
+	@Override
+	public void clear() {
+		this.root = null;
+	}
+
+	@Override
+	public String toString() {
+		var builder = new StringBuilder(this.length());
+		append(this.root, builder);
+		return builder.toString();
+	}
+
+	private void checkIndex(int index, int bound) {
+		if (index < 0 || index >= bound)
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.length());
+	}
+
+	private void checkRange(int start, int end) {
+		if (start < 0 || end > this.length() || start > end)
+			throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length " + this.length());
+	}
+
+	/**
+	 * Builds a treap from the given text.
+	 *
+	 * @param text the text
+	 * @return the root of the built treap
+	 */
+	private Node build(CharSequence text) {
+		Node result = null;
+		for (int i = 0; i < text.length(); i += CHUNK_SIZE) {
+			result = merge(result, new Node(text.subSequence(i, Math.min(text.length(), i + CHUNK_SIZE)), this.random.nextInt()));
+		}
+		return result;
+	}
+
+	/**
+	 * Splits the given treap at the given offset, the chunk containing the offset is cut in two if needed.
+	 *
+	 * @param node the treap to split
+	 * @param offset the offset
+	 * @return the left and right treaps
+	 */
+	private Node[] split(Node node, int offset) {
+		if (node == null)
+			return new Node[]{null, null};
+
+		int leftLength = length(node.left);
+		if (offset <= leftLength) {
+			var parts = this.split(node.left, offset);
+			node.left = parts[1];
+			node.update();
+			parts[1] = node;
+			return parts;
+		}
+
+		int chunkEnd = leftLength + node.chunk.length();
+		if (offset >= chunkEnd) {
+			var parts = this.split(node.right, offset - chunkEnd);
+			node.right = parts[0];
+			node.update();
+			parts[0] = node;
+			return parts;
+		}
+
+		int local = offset - leftLength;
+		var tail = new Node(node.chunk.substring(local), this.random.nextInt());
+		node.chunk.setLength(local);
+		var right = node.right;
+		node.right = null;
+		node.update();
+		return new Node[]{node, merge(tail, right)};
+	}
+
+	private static Node merge(Node left, Node right) {
+		if (left == null)
+			return right;
+		if (right == null)
+			return left;
+
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			left.update();
+			return left;
+		} else {
+			right.left = merge(left, right.left);
+			right.update();
+			return right;
+		}
+	}
+
+	/**
+	 * Inserts the text directly into the chunk containing the offset if it fits.
+	 *
+	 * @return {@code true} if the text has been inserted, else {@code false}
+	 */
+	private static boolean insertInPlace(Node node, int offset, CharSequence text) {
+		if (node == null)
+			return false;
+
+		int leftLength = length(node.left);
+		int chunkEnd = leftLength + node.chunk.length();
+		boolean result;
+		if (offset < leftLength) {
+			result = insertInPlace(node.left, offset, text);
+		} else if (offset <= chunkEnd) {
+			if (node.chunk.length() + text.length() > MAX_CHUNK_SIZE)
+				return false;
+			node.chunk.insert(offset - leftLength, text);
+			result = true;
+		} else {
+			result = insertInPlace(node.right, offset - chunkEnd, text);
+		}
+
+		if (result)
+			node.length += text.length();
+		return result;
+	}
+
+	/**
+	 * Deletes the range directly in the chunk containing it if the chunk stays non-empty.
+	 *
+	 * @return {@code true} if the range has been deleted, else {@code false}
+	 */
+	private static boolean deleteInPlace(Node node, int start, int end) {
+		if (node == null)
+			return false;
+
+		int leftLength = length(node.left);
+		int chunkEnd = leftLength + node.chunk.length();
+		boolean result;
+		if (end <= leftLength) {
+			result = deleteInPlace(node.left, start, end);
+		} else if (start >= chunkEnd) {
+			result = deleteInPlace(node.right, start - chunkEnd, end - chunkEnd);
+		} else if (start >= leftLength && end <= chunkEnd && end - start < node.chunk.length()) {
+			node.chunk.delete(start - leftLength, end - leftLength);
+			result = true;
+		} else {
+			return false;
+		}
+
+		if (result)
+			node.length -= end - start;
+		return result;
+	}
+
+	private static void appendRange(Node node, int start, int end, StringBuilder builder) {
+		if (node == null || start >= end)
+			return;
+
+		int leftLength = length(node.left);
+		if (start < leftLength)
+			appendRange(node.left, start, Math.min(end, leftLength), builder);
+
+		int chunkEnd = leftLength + node.chunk.length();
+		if (start < chunkEnd && end > leftLength)
+			builder.append(node.chunk, Math.max(0, start - leftLength), Math.min(node.chunk.length(), end - leftLength));
+
+		if (end > chunkEnd)
+			appendRange(node.right, Math.max(0, start - chunkEnd), end - chunkEnd, builder);
+	}
+
+	private static void append(Node node, StringBuilder builder) {
+		if (node == null)
+			return;
+		append(node.left, builder);
+		builder.append(node.chunk);
+		append(node.right, builder);
+	}
+
+	private static int length(Node node) {
+		return node == null ? 0 : node.length;
+	}
+
+	private static final class Node {
+		private final StringBuilder chunk;
+		private final int priority;
+		private Node left;
+		private Node right;
+		private int length;
+
+		private Node(CharSequence chunk, int priority) {
+			this.chunk = new StringBuilder(chunk);
+			this.priority = priority;
+			this.length = chunk.length();
+		}
+
+		private void update() {
+			this.length = length(this.left) + this.chunk.length() + length(this.right);
+		}
+	}
+}
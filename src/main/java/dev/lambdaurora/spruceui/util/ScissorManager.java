@@ -10,28 +10,66 @@
 package dev.lambdaurora.spruceui.util;
 
 import com.mojang.blaze3d.systems.RenderSystem;
+import dev.lambdaurora.spruceui.profiler.RenderMetrics;
+import dev.lambdaurora.spruceui.render.RenderBackend;
 import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
 import it.unimi.dsi.fastutil.doubles.DoubleList;
 import net.minecraft.client.MinecraftClient;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
 
 /**
  * Represents a manager for {@link RenderSystem#enableScissor(int, int, int, int)}.
+ * <p>
+ * Scissor changes flush the {@link RenderBackend render backend}, so recorded quads are clipped by the scissor active when they were recorded.
+ * <p>
+ * Each pushed scissor is intersected with its parent, the resulting clip rectangle can be queried with {@link #isVisible(int, int, int, int)}
+ * to skip rendering content which would be entirely discarded.
+ * <p>
+ * The scissor states are stored in primitive arrays and the window metrics are snapshotted once per frame, so pushing and popping allocates nothing.
  *
  * @author LambdAurora
- * @version 3.2.1
+ * @version 3.3.1
  * @since 2.0.0
  */
 public final class ScissorManager {
-	private static final Deque<ScissorHandle> SCISSOR_STACK = new ArrayDeque<>();
+	// Each scissor state is made of its framebuffer rectangle, then of its clip rectangle in the coordinates it was pushed in.
+	private static final int STRIDE = 8;
+	private static int[] scissorStack = new int[STRIDE * 16];
+	private static double[] scissorScaleFactors = new double[16];
+	private static int scissorCount;
 	private static final DoubleList SCALE_FACTOR_STACK = new DoubleArrayList();
 
+	private static int framebufferHeight = -1;
+	private static double scaledHeightScaleFactor = Double.NaN;
+	private static int scaledHeight;
+
 	private ScissorManager() {
 		throw new UnsupportedOperationException("ScissorManager only contains static definitions.");
 	}
 
+	/**
+	 * Snapshots the window metrics used to compute the scissor states, called at the start of each frame.
+	 */
+	public static void startFrame() {
+		var client = MinecraftClient.getInstance();
+		setFramebufferHeight(client == null || client.getWindow() == null ? -1 : client.getWindow().getFramebufferHeight());
+	}
+
+	/**
+	 * Forgets the window metrics, they are snapshotted again on the next scissor push.
+	 */
+	public static void invalidate() {
+		setFramebufferHeight(-1);
+	}
+
+	private static void setFramebufferHeight(int height) {
+		if (framebufferHeight != height) {
+			framebufferHeight = height;
+			scaledHeightScaleFactor = Double.NaN;
+		}
+	}
+
 	public static void pushScaleFactor(double scaleFactor) {
 		SCALE_FACTOR_STACK.add(scaleFactor);
 	}
@@ -59,6 +97,8 @@ public final class ScissorManager {
 
 	/**
 	 * Pushes a new scissor state.
+	 * <p>
+	 * The drawable area is intersected with the area of the current scissor state.
 	 *
 	 * @param x the X coordinate of the drawable area
 	 * @param y the Y coordinate of the drawable area
@@ -67,34 +107,101 @@ public final class ScissorManager {
 	 */
 	public static void push(int x, int y, int width, int height) {
 		double scaleFactor = getCurrentScaleFactor();
-		var handle = new ScissorHandle((int) (scaleFactor * x), adaptY(y, height, scaleFactor),
-				(int) (scaleFactor * width), (int) (scaleFactor * height));
-		handle.apply();
-		SCISSOR_STACK.push(handle);
+		if (scissorCount != 0) {
+			int parent = (scissorCount - 1) * STRIDE;
+			double scale = scissorScaleFactors[scissorCount - 1] / scaleFactor;
+			int left = Math.max(x, (int) (scissorStack[parent + 4] * scale));
+			int top = Math.max(y, (int) (scissorStack[parent + 5] * scale));
+			int right = Math.min(x + width, (int) ((scissorStack[parent + 4] + scissorStack[parent + 6]) * scale));
+			int bottom = Math.min(y + height, (int) ((scissorStack[parent + 5] + scissorStack[parent + 7]) * scale));
+			x = left;
+			y = top;
+			width = Math.max(0, right - left);
+			height = Math.max(0, bottom - top);
+		}
+
+		if (scissorCount == scissorScaleFactors.length) {
+			scissorStack = Arrays.copyOf(scissorStack, scissorStack.length * 2);
+			scissorScaleFactors = Arrays.copyOf(scissorScaleFactors, scissorScaleFactors.length * 2);
+		}
+
+		int handle = scissorCount * STRIDE;
+		scissorStack[handle] = (int) (scaleFactor * x);
+		scissorStack[handle + 1] = adaptY(y, height, scaleFactor);
+		scissorStack[handle + 2] = (int) (scaleFactor * width);
+		scissorStack[handle + 3] = (int) (scaleFactor * height);
+		scissorStack[handle + 4] = x;
+		scissorStack[handle + 5] = y;
+		scissorStack[handle + 6] = width;
+		scissorStack[handle + 7] = height;
+		scissorScaleFactors[scissorCount] = scaleFactor;
+
+		RenderBackend.get().flush();
+		RenderMetrics.onScissorPush();
+		apply(scissorCount++);
 	}
 
 	/**
 	 * Pops the last pushed scissor state.
 	 */
 	public static void pop() {
-		SCISSOR_STACK.pop();
-		if (SCISSOR_STACK.isEmpty()) {
+		if (scissorCount == 0)
+			throw new IllegalStateException("Cannot pop a scissor state, the scissor stack is empty.");
+
+		RenderBackend.get().flush();
+		scissorCount--;
+		if (scissorCount == 0) {
 			RenderSystem.disableScissor();
 		} else {
-			SCISSOR_STACK.getFirst().apply();
+			apply(scissorCount - 1);
 		}
 	}
 
-	private static int adaptY(int y, int height, double scaleFactor) {
-		var window = MinecraftClient.getInstance().getWindow();
-		int tmpHeight = (int) (window.getFramebufferHeight() / scaleFactor);
-		int scaledHeight = window.getFramebufferHeight() / scaleFactor > (double) tmpHeight ? tmpHeight + 1 : tmpHeight;
-		return (int) (scaleFactor * (scaledHeight - height - y));
+	/**
+	 * Returns whether the given area is at least partially inside the current scissor state.
+	 *
+	 * @param x the X coordinate of the area
+	 * @param y the Y coordinate of the area
+	 * @param width the width of the area
+	 * @param height the height of the area
+	 * @return {@code true} if the area is visible, or if no scissor state is active, else {@code false}
+	 */
+	public static boolean isVisible(int x, int y, int width, int height) {
+		if (scissorCount == 0)
+			return true;
+
+		int handle = (scissorCount - 1) * STRIDE;
+		int clipX = scissorStack[handle + 4];
+		int clipY = scissorStack[handle + 5];
+		int clipRight = clipX + scissorStack[handle + 6];
+		int clipBottom = clipY + scissorStack[handle + 7];
+		double handleScaleFactor = scissorScaleFactors[scissorCount - 1];
+		double scaleFactor = getCurrentScaleFactor();
+		if (handleScaleFactor != scaleFactor) {
+			double scale = handleScaleFactor / scaleFactor;
+			clipX = (int) (clipX * scale);
+			clipY = (int) (clipY * scale);
+			clipRight = (int) (clipRight * scale);
+			clipBottom = (int) (clipBottom * scale);
+		}
+
+		return x < clipRight && x + width > clipX && y < clipBottom && y + height > clipY;
+	}
+
+	private static void apply(int index) {
+		int handle = index * STRIDE;
+		RenderSystem.enableScissor(scissorStack[handle], scissorStack[handle + 1], scissorStack[handle + 2], scissorStack[handle + 3]);
 	}
 
-	record ScissorHandle(int x, int y, int width, int height) {
-		void apply() {
-			RenderSystem.enableScissor(this.x(), this.y(), this.width(), this.height());
+	private static int adaptY(int y, int height, double scaleFactor) {
+		if (framebufferHeight == -1)
+			startFrame();
+
+		if (scaledHeightScaleFactor != scaleFactor) {
+			int tmpHeight = (int) (framebufferHeight / scaleFactor);
+			scaledHeight = framebufferHeight / scaleFactor > (double) tmpHeight ? tmpHeight + 1 : tmpHeight;
+			scaledHeightScaleFactor = scaleFactor;
 		}
+		return (int) (scaleFactor * (scaledHeight - height - y));
 	}
 }
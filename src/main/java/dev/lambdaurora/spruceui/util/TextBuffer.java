@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.util;
+
+/**
+ * Represents an editable text buffer.
+ * <p>
+ * Text buffers are the storage behind multiline texts, implementations are expected to support insertions and deletions
+ * at arbitrary offsets without copying the whole text.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public interface TextBuffer extends CharSequence {
+	/**
+	 * Creates a new rope-backed text buffer.
+	 *
+	 * @return the text buffer
+	 */
+	static TextBuffer rope() {
+		return new RopeTextBuffer();
+	}
+
+	/**
+	 * Returns the text between the given offsets.
+	 *
+	 * @param start the start offset, inclusive
+	 * @param end the end offset, exclusive
+	 * @return the text between the given offsets
+	 */
+	String substring(int start, int end);
+
+	@Override
+	default CharSequence subSequence(int start, int end) {
+		return this.substring(start, end);
+	}
+
+	/**
+	 * Inserts the given text at the given offset.
+	 *
+	 * @param offset the offset
+	 * @param text the text to insert
+	 */
+	void insert(int offset, CharSequence text);
+
+	/**
+	 * Deletes the text between the given offsets.
+	 *
+	 * @param start the start offset, inclusive
+	 * @param end the end offset, exclusive
+	 */
+	void delete(int start, int end);
+
+	/**
+	 * Replaces the text between the given offsets.
+	 *
+	 * @param start the start offset, inclusive
+	 * @param end the end offset, exclusive
+	 * @param text the replacement text
+	 */
+	default void replace(int start, int end, CharSequence text) {
+		this.delete(start, end);
+		this.insert(start, text);
+	}
+
+	/**
+	 * Clears the text buffer.
+	 */
+	void clear();
+
+	/**
+	 * Sets the content of the text buffer.
+	 *
+	 * @param text the new content
+	 */
+	default void set(CharSequence text) {
+		this.clear();
+		this.insert(0, text);
+	}
+
+	/**
+	 * Returns the whole content of the text buffer.
+	 *
+	 * @return the content
+	 */
+	@Override
+	String toString();
+}
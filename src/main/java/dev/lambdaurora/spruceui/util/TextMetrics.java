@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.util;
+
+import java.util.Objects;
+
+/**
+ * Represents the text measurement service used by SpruceUI widgets.
+ * <p>
+ * Widgets measure text through this service instead of the font renderer, which allows caching the glyph advances
+ * and swapping the font for a synthetic one when running headless.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ * @see CachedTextMetrics
+ */
+public interface TextMetrics {
+	/**
+	 * Returns the current text metrics.
+	 *
+	 * @return the text metrics
+	 */
+	static TextMetrics get() {
+		return CachedTextMetrics.Holder.instance;
+	}
+
+	/**
+	 * Replaces the current text metrics, mostly useful to provide a synthetic font table.
+	 *
+	 * @param metrics the new text metrics
+	 */
+	static void set(TextMetrics metrics) {
+		CachedTextMetrics.Holder.instance = Objects.requireNonNull(metrics);
+	}
+
+	/**
+	 * Returns the height of a line of text.
+	 *
+	 * @return the font height
+	 */
+	int getFontHeight();
+
+	/**
+	 * Returns the width of the given text.
+	 *
+	 * @param text the text
+	 * @return the width
+	 */
+	int getWidth(String text);
+
+	/**
+	 * Trims the given text to fit in the given width.
+	 *
+	 * @param text the text
+	 * @param width the maximum width
+	 * @return the longest prefix of the text fitting in the width
+	 */
+	default String trimToWidth(String text, int width) {
+		return this.trimToWidth(text, width, false);
+	}
+
+	/**
+	 * Trims the given text to fit in the given width.
+	 *
+	 * @param text the text
+	 * @param width the maximum width
+	 * @param backwards {@code true} to keep the end of the text instead of its start
+	 * @return the longest prefix, or suffix if backwards, of the text fitting in the width
+	 */
+	String trimToWidth(String text, int width, boolean backwards);
+
+	/**
+	 * Returns the index of the character at the given X-coordinate, relative to the start of the text.
+	 *
+	 * @param text the text
+	 * @param x the X-coordinate
+	 * @return the number of characters fitting before the X-coordinate
+	 */
+	default int getIndexAtX(String text, int x) {
+		return this.trimToWidth(text, x).length();
+	}
+
+	/**
+	 * Invalidates any cached metrics, called when the fonts are reloaded.
+	 */
+	void invalidate();
+}
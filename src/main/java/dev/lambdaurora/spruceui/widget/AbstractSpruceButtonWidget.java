@@ -13,6 +13,9 @@ import com.mojang.blaze3d.systems.RenderSystem;
 import dev.lambdaurora.spruceui.Position;
 import dev.lambdaurora.spruceui.Tooltip;
 import dev.lambdaurora.spruceui.Tooltipable;
+import dev.lambdaurora.spruceui.render.ButtonBackgroundRenderer;
+import dev.lambdaurora.spruceui.render.RenderStateTracker;
+import dev.lambdaurora.spruceui.render.SpriteAtlas;
 import dev.lambdaurora.spruceui.wrapper.VanillaButtonWrapper;
 import net.minecraft.client.gui.screen.narration.NarrationMessageBuilder;
 import net.minecraft.client.gui.screen.narration.NarrationPart;
@@ -29,10 +32,14 @@ import java.util.Optional;
  * Represents a button-like widget.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 2.0.0
  */
 public abstract class AbstractSpruceButtonWidget extends AbstractSpruceWidget implements Tooltipable {
+	static {
+		SpriteAtlas.get().register(ClickableWidget.WIDGETS_TEXTURE);
+	}
+
 	private Text message;
 	private Text tooltip;
 	private int tooltipTicks;
@@ -62,6 +69,7 @@ public abstract class AbstractSpruceButtonWidget extends AbstractSpruceWidget im
 	 */
 	public void setMessage(Text message) {
 		this.message = message;
+		this.invalidateLayout();
 	}
 
 	public float getAlpha() {
@@ -153,48 +161,12 @@ public abstract class AbstractSpruceButtonWidget extends AbstractSpruceWidget im
 
 	@Override
 	protected void renderBackground(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-		RenderSystem.setShaderColor(1.f, 1.f, 1.f, this.getAlpha());
-		RenderSystem.setShaderTexture(0, ClickableWidget.WIDGETS_TEXTURE);
-		RenderSystem.enableBlend();
-		RenderSystem.defaultBlendFunc();
+		RenderStateTracker.setShaderColor(1.f, 1.f, 1.f, this.getAlpha());
+		RenderStateTracker.enableBlend();
+		RenderStateTracker.defaultBlendFunc();
 		RenderSystem.enableDepthTest();
-		int v = 46 + this.getVOffset() * 20;
-		if (this.getWidth() / 2 < 200) {
-			this.drawTexture(matrices,
-					this.getX(), this.getY(),
-					0, v,
-					this.getWidth() / 2, this.getHeight());
-			this.drawTexture(matrices,
-					this.getX() + this.getWidth() / 2, this.getY(),
-					200 - this.getWidth() / 2, v,
-					this.getWidth() / 2, this.getHeight());
-		} else {
-			int middleWidth = this.getWidth() - 100;
-			this.drawTexture(matrices,
-					this.getX(), this.getY(),
-					0, v,
-					50, this.getHeight());
-
-			int x;
-			for (x = 50; x < middleWidth; x += 100) {
-				this.drawTexture(matrices,
-						this.getX() + x, this.getY(),
-						50, v,
-						100, this.getHeight());
-			}
-
-			if (x - middleWidth > 0) {
-				this.drawTexture(matrices,
-						this.getX() + x, this.getY(),
-						50, v,
-						x - middleWidth, this.getHeight());
-			}
-
-			this.drawTexture(matrices,
-					this.getX() + this.getWidth() - 50, this.getY(),
-					150, v,
-					50, this.getHeight());
-		}
+		ButtonBackgroundRenderer.get().render(matrices, this.getX(), this.getY(), this.getWidth(), this.getHeight(),
+				46 + this.getVOffset() * 20);
 	}
 
 	/* Narration */
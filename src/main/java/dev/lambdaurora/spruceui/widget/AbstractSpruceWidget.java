@@ -11,6 +11,10 @@ package dev.lambdaurora.spruceui.widget;
 
 import dev.lambdaurora.spruceui.Position;
 import dev.lambdaurora.spruceui.navigation.NavigationDirection;
+import dev.lambdaurora.spruceui.profiler.RenderMetrics;
+import dev.lambdaurora.spruceui.profiler.WidgetProfiler;
+import dev.lambdaurora.spruceui.render.RenderBackend;
+import dev.lambdaurora.spruceui.util.ScissorManager;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawableHelper;
 import net.minecraft.client.gui.Selectable;
@@ -27,7 +31,7 @@ import org.jetbrains.annotations.Nullable;
  * Represents a widget.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 2.0.0
  */
 public abstract class AbstractSpruceWidget extends DrawableHelper implements SpruceWidget {
@@ -42,6 +46,7 @@ public abstract class AbstractSpruceWidget extends DrawableHelper implements Spr
 	protected boolean wasHovered = false;
 	protected boolean dragging = false;
 	protected long lastDrag = 0L;
+	private boolean layoutValid = false;
 
 	public AbstractSpruceWidget(Position position) {
 		this.position = position;
@@ -68,11 +73,37 @@ public abstract class AbstractSpruceWidget extends DrawableHelper implements Spr
 		return this.width;
 	}
 
+	/**
+	 * Sets the width of this widget.
+	 *
+	 * @param width the width
+	 * @since 3.3.1
+	 */
+	public void setWidth(int width) {
+		if (this.width != width) {
+			this.width = width;
+			this.invalidateLayout();
+		}
+	}
+
 	@Override
 	public int getHeight() {
 		return this.height;
 	}
 
+	/**
+	 * Sets the height of this widget.
+	 *
+	 * @param height the height
+	 * @since 3.3.1
+	 */
+	public void setHeight(int height) {
+		if (this.height != height) {
+			this.height = height;
+			this.invalidateLayout();
+		}
+	}
+
 	@Override
 	public boolean isActive() {
 		return this.active;
@@ -116,6 +147,34 @@ public abstract class AbstractSpruceWidget extends DrawableHelper implements Spr
 		this.dragging = dragging;
 	}
 
+	/* Layout */
+
+	@Override
+	public void invalidateLayout() {
+		this.layoutValid = false;
+		SpruceWidget.super.invalidateLayout();
+	}
+
+	/**
+	 * Measures this widget if its layout has been invalidated since the last measure.
+	 *
+	 * @since 3.3.1
+	 */
+	protected final void validateLayout() {
+		if (!this.layoutValid) {
+			this.layoutValid = true;
+			this.measure();
+		}
+	}
+
+	/**
+	 * Measures this widget, computing the sizes which are cached until the next {@linkplain #invalidateLayout() invalidation}.
+	 *
+	 * @since 3.3.1
+	 */
+	protected void measure() {
+	}
+
 	/* Navigation */
 
 	@Override
@@ -140,6 +199,12 @@ public abstract class AbstractSpruceWidget extends DrawableHelper implements Spr
 		if (!this.isActive() || !this.isVisible() || !this.isMouseOver(mouseX, mouseY))
 			return false;
 
+		if (WidgetProfiler.isEnabled()) {
+			WidgetProfiler.push(this, WidgetProfiler.MOUSE_CLICKED);
+			boolean result = this.onMouseClick(mouseX, mouseY, button);
+			WidgetProfiler.pop();
+			return result;
+		}
 		return this.onMouseClick(mouseX, mouseY, button);
 	}
 
@@ -189,6 +254,12 @@ public abstract class AbstractSpruceWidget extends DrawableHelper implements Spr
 	@Override
 	public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
 		if (this.isActive() && this.isVisible()) {
+			if (WidgetProfiler.isEnabled()) {
+				WidgetProfiler.push(this, WidgetProfiler.KEY_PRESSED);
+				boolean result = this.onKeyPress(keyCode, scanCode, modifiers);
+				WidgetProfiler.pop();
+				return result;
+			}
 			return this.onKeyPress(keyCode, scanCode, modifiers);
 		}
 		return false;
@@ -257,7 +328,8 @@ public abstract class AbstractSpruceWidget extends DrawableHelper implements Spr
 
 	@Override
 	public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-		if (this.isVisible()) {
+		// Widgets entirely clipped by the current scissor state draw nothing, skip them and their children.
+		if (this.isVisible() && ScissorManager.isVisible(this.getX(), this.getY(), this.getWidth(), this.getHeight())) {
 			this.hovered = mouseX >= this.getX() && mouseY >= this.getY()
 					&& mouseX < this.getX() + this.getWidth() && mouseY < this.getY() + this.getHeight();
 
@@ -267,8 +339,21 @@ public abstract class AbstractSpruceWidget extends DrawableHelper implements Spr
 				}
 			}
 
-			this.renderBackground(matrices, mouseX, mouseY, delta);
-			this.renderWidget(matrices, mouseX, mouseY, delta);
+			// Quads recorded by the parent must be drawn before this widget, and the quads of this widget before its siblings.
+			var backend = RenderBackend.get();
+			backend.flush();
+			boolean metrics = RenderMetrics.isEnabled();
+			if (metrics)
+				RenderMetrics.push(this);
+			if (WidgetProfiler.isEnabled()) {
+				this.renderProfiled(matrices, mouseX, mouseY, delta);
+			} else {
+				this.renderBackground(matrices, mouseX, mouseY, delta);
+				this.renderWidget(matrices, mouseX, mouseY, delta);
+			}
+			backend.flush();
+			if (metrics)
+				RenderMetrics.pop();
 
 			this.wasHovered = this.isMouseHovered();
 		} else {
@@ -276,6 +361,17 @@ public abstract class AbstractSpruceWidget extends DrawableHelper implements Spr
 		}
 	}
 
+	private void renderProfiled(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+		WidgetProfiler.push(this, WidgetProfiler.RENDER);
+		WidgetProfiler.push(this, WidgetProfiler.RENDER_BACKGROUND);
+		this.renderBackground(matrices, mouseX, mouseY, delta);
+		WidgetProfiler.pop();
+		WidgetProfiler.push(this, WidgetProfiler.RENDER_WIDGET);
+		this.renderWidget(matrices, mouseX, mouseY, delta);
+		WidgetProfiler.pop();
+		WidgetProfiler.pop();
+	}
+
 	/**
 	 * Renders the widget.
 	 *
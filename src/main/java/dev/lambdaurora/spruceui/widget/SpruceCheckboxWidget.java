@@ -12,6 +12,8 @@ package dev.lambdaurora.spruceui.widget;
 import com.mojang.blaze3d.platform.GlStateManager;
 import com.mojang.blaze3d.systems.RenderSystem;
 import dev.lambdaurora.spruceui.Position;
+import dev.lambdaurora.spruceui.render.RenderStateTracker;
+import dev.lambdaurora.spruceui.render.SpriteAtlas;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.OrderedText;
 import net.minecraft.text.Text;
@@ -23,11 +25,16 @@ import net.minecraft.util.math.MathHelper;
  * Represents a checkbox widget.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 1.0.0
  */
 public class SpruceCheckboxWidget extends AbstractSpruceBooleanButtonWidget {
-	private static final Identifier TEXTURE = new Identifier("spruceui", "textures/gui/checkbox.png");
+	public static final Identifier TEXTURE = new Identifier("spruceui", "textures/gui/checkbox.png");
+
+	static {
+		SpriteAtlas.get().register(TEXTURE);
+	}
+
 	private boolean showCross = false;
 	private boolean colored = false;
 
@@ -88,16 +95,16 @@ public class SpruceCheckboxWidget extends AbstractSpruceBooleanButtonWidget {
 	@Override
 	protected void renderButton(MatrixStack matrices, int mouseX, int mouseY, float delta) {
 		RenderSystem.enableDepthTest();
-		RenderSystem.enableBlend();
-		RenderSystem.defaultBlendFunc();
-		RenderSystem.blendFunc(GlStateManager.SourceFactor.SRC_ALPHA.ordinal(), GlStateManager.SourceFactor.ONE_MINUS_SRC_ALPHA.ordinal());
+		RenderStateTracker.enableBlend();
+		RenderStateTracker.defaultBlendFunc();
+		RenderStateTracker.blendFunc(GlStateManager.SourceFactor.SRC_ALPHA.ordinal(), GlStateManager.SourceFactor.ONE_MINUS_SRC_ALPHA.ordinal());
 		if (this.getValue()) {
 			if (this.colored)
-				RenderSystem.setShaderColor(0.f, 1.f, 0.f, this.alpha);
+				RenderStateTracker.setShaderColor(0.f, 1.f, 0.f, this.alpha);
 			drawTexture(matrices, this.getX(), this.getY(), 0.f, 40.f, this.getHeight(), this.getHeight(), 64, 64);
 		} else if (this.showCross) {
 			if (this.colored)
-				RenderSystem.setShaderColor(1.f, 0.f, 0.f, this.alpha);
+				RenderStateTracker.setShaderColor(1.f, 0.f, 0.f, this.alpha);
 			drawTexture(matrices, this.getX(), this.getY(), 0.f, 20.f, this.getHeight(), this.getHeight(), 64, 64);
 		}
 
@@ -111,12 +118,11 @@ public class SpruceCheckboxWidget extends AbstractSpruceBooleanButtonWidget {
 	@Override
 	protected void renderBackground(MatrixStack matrices, int mouseX, int mouseY, float delta) {
 		RenderSystem.enableDepthTest();
-		RenderSystem.setShaderColor(1.f, 1.f, 1.f, this.alpha);
-		RenderSystem.setShaderTexture(0, TEXTURE);
-		RenderSystem.enableBlend();
-		RenderSystem.defaultBlendFunc();
-		RenderSystem.blendFunc(GlStateManager.SourceFactor.SRC_ALPHA.ordinal(), GlStateManager.SourceFactor.ONE_MINUS_SRC_ALPHA.ordinal());
-		drawTexture(matrices, this.getX(), this.getY(), this.isFocusedOrHovered() ? 20.f : 0.f, 0.f, this.getHeight(), this.getHeight(), 64, 64);
+		RenderStateTracker.setShaderColor(1.f, 1.f, 1.f, this.alpha);
+		RenderStateTracker.enableBlend();
+		RenderStateTracker.defaultBlendFunc();
+		RenderStateTracker.blendFunc(GlStateManager.SourceFactor.SRC_ALPHA.ordinal(), GlStateManager.SourceFactor.ONE_MINUS_SRC_ALPHA.ordinal());
+		SpriteAtlas.get().drawTexture(matrices, TEXTURE, this.getX(), this.getY(), this.isFocusedOrHovered() ? 20.f : 0.f, 0.f, this.getHeight(), this.getHeight(), 64, 64);
 	}
 
 	/* Narration */
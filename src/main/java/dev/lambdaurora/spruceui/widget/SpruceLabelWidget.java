@@ -28,7 +28,7 @@ import java.util.function.Consumer;
  * Represents a label widget.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 1.0.0
  */
 public class SpruceLabelWidget extends AbstractSpruceWidget implements Tooltipable, WithBorder {
@@ -100,6 +100,7 @@ public class SpruceLabelWidget extends AbstractSpruceWidget implements Tooltipab
 		}
 		this.width = width;
 		this.height = this.lines.size() * this.client.textRenderer.fontHeight + 2;
+		this.invalidateLayout();
 	}
 
 	/**
@@ -181,14 +182,12 @@ public class SpruceLabelWidget extends AbstractSpruceWidget implements Tooltipab
 
 		this.getBorder().render(matrices, this, mouseX, mouseY, delta);
 
-		if (this.tooltip != null) {
-			if (!this.tooltip.getString().isEmpty()) {
-				var wrappedTooltipText = this.client.textRenderer.wrapLines(this.tooltip, Math.max(this.width / 2, 200));
-				if (this.hovered)
-					Tooltip.create(mouseX, mouseY, wrappedTooltipText).queue();
-				else if (this.focused)
-					Tooltip.create(this.getX() - 12, this.getY(), wrappedTooltipText).queue();
-			}
+		if (this.tooltip != null && (this.hovered || this.focused)) {
+			int tooltipWidth = Math.max(this.width / 2, 200);
+			var tooltip = this.hovered ? Tooltip.createCached(mouseX, mouseY, this.tooltip, tooltipWidth)
+					: Tooltip.createCached(this.getX() - 12, this.getY(), this.tooltip, tooltipWidth);
+			if (tooltip.shouldRender())
+				tooltip.queue();
 		}
 	}
 
@@ -62,6 +62,7 @@ public class SpruceSeparatorWidget extends AbstractSpruceWidget implements Toolt
 	 */
 	public void setTitle(@Nullable Text title) {
 		this.title = title;
+		this.invalidateLayout();
 	}
 
 	@Override
@@ -9,10 +9,11 @@
 
 package dev.lambdaurora.spruceui.widget;
 
-import com.mojang.blaze3d.systems.RenderSystem;
 import dev.lambdaurora.spruceui.Position;
 import dev.lambdaurora.spruceui.Tooltipable;
 import dev.lambdaurora.spruceui.navigation.NavigationDirection;
+import dev.lambdaurora.spruceui.render.RenderStateTracker;
+import dev.lambdaurora.spruceui.render.SpriteAtlas;
 import net.minecraft.client.gui.widget.ClickableWidget;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
@@ -24,7 +25,7 @@ import java.util.function.Consumer;
  * Represents a slider widget.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 1.0.0
  */
 public class SpruceSliderWidget extends AbstractSpruceButtonWidget implements Tooltipable {
@@ -166,11 +167,12 @@ public class SpruceSliderWidget extends AbstractSpruceButtonWidget implements To
 
 	@Override
 	protected void renderButton(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-		RenderSystem.setShaderColor(1.f, 1.f, 1.f, 1.f);
-		RenderSystem.setShaderTexture(0, ClickableWidget.WIDGETS_TEXTURE);
+		RenderStateTracker.setShaderColor(1.f, 1.f, 1.f, 1.f);
 		int vOffset = (this.isFocusedOrHovered() ? 2 : 1) * 20;
-		this.drawTexture(matrices, this.getX() + (int) (this.value * (double) (this.getWidth() - 8)), this.getY(), 0, 46 + vOffset, 4, 20);
-		this.drawTexture(matrices, this.getX() + (int) (this.value * (double) (this.getWidth() - 8)) + 4, this.getY(), 196, 46 + vOffset, 4, 20);
+		SpriteAtlas.get().drawTexture(matrices, ClickableWidget.WIDGETS_TEXTURE,
+				this.getX() + (int) (this.value * (double) (this.getWidth() - 8)), this.getY(), 0, 46 + vOffset, 4, 20, 256, 256);
+		SpriteAtlas.get().drawTexture(matrices, ClickableWidget.WIDGETS_TEXTURE,
+				this.getX() + (int) (this.value * (double) (this.getWidth() - 8)) + 4, this.getY(), 196, 46 + vOffset, 4, 20, 256, 256);
 
 		if (!this.isMouseHovered() && this.inUse) {
 			this.inUse = false;
@@ -11,6 +11,8 @@ package dev.lambdaurora.spruceui.widget;
 
 import com.mojang.blaze3d.systems.RenderSystem;
 import dev.lambdaurora.spruceui.Position;
+import dev.lambdaurora.spruceui.render.RenderStateTracker;
+import dev.lambdaurora.spruceui.render.SpriteAtlas;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
@@ -19,7 +21,7 @@ import net.minecraft.util.Identifier;
  * Represents a textured button widget.
  *
  * @author LambdAurora
- * @version 3.0.0
+ * @version 3.3.1
  * @since 2.0.0
  */
 public class SpruceTexturedButtonWidget extends SpruceButtonWidget {
@@ -56,6 +58,7 @@ public class SpruceTexturedButtonWidget extends SpruceButtonWidget {
 		this.textureWidth = textureWidth;
 		this.textureHeight = textureHeight;
 		this.showMessage = showMessage;
+		SpriteAtlas.get().register(texture);
 	}
 
 	/* Rendering */
@@ -73,10 +76,9 @@ public class SpruceTexturedButtonWidget extends SpruceButtonWidget {
 			v += this.hoveredVOffset;
 		}
 
-		RenderSystem.setShaderColor(1.f, 1.f, 1.f, this.getAlpha());
-		RenderSystem.setShaderTexture(0, this.texture);
+		RenderStateTracker.setShaderColor(1.f, 1.f, 1.f, this.getAlpha());
 		RenderSystem.enableDepthTest();
-		drawTexture(matrices,
+		SpriteAtlas.get().drawTexture(matrices, this.texture,
 				this.getX(), this.getY(),
 				this.u, v,
 				this.getWidth(), this.getHeight(),
@@ -13,6 +13,8 @@ import com.mojang.blaze3d.platform.GlStateManager;
 import com.mojang.blaze3d.systems.RenderSystem;
 import dev.lambdaurora.spruceui.Position;
 import dev.lambdaurora.spruceui.SpruceTexts;
+import dev.lambdaurora.spruceui.render.RenderStateTracker;
+import dev.lambdaurora.spruceui.render.SpriteAtlas;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
@@ -24,11 +26,15 @@ import org.jetbrains.annotations.Nullable;
  * Represents a checkbox widget.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 1.0.0
  */
 public class SpruceToggleSwitch extends AbstractSpruceBooleanButtonWidget {
-	private static final Identifier TEXTURE = new Identifier("spruceui", "textures/gui/toggle_switch.png");
+	public static final Identifier TEXTURE = new Identifier("spruceui", "textures/gui/toggle_switch.png");
+
+	static {
+		SpriteAtlas.get().register(TEXTURE);
+	}
 
 	public SpruceToggleSwitch(Position position, int width, int height, Text message, boolean value) {
 		super(position, width, height, message, value);
@@ -54,10 +60,10 @@ public class SpruceToggleSwitch extends AbstractSpruceBooleanButtonWidget {
 	@Override
 	protected void renderButton(MatrixStack matrices, int mouseX, int mouseY, float delta) {
 		RenderSystem.enableDepthTest();
-		RenderSystem.enableBlend();
-		RenderSystem.defaultBlendFunc();
-		RenderSystem.blendFunc(GlStateManager.SourceFactor.SRC_ALPHA.ordinal(), GlStateManager.SourceFactor.ONE_MINUS_SRC_ALPHA.ordinal());
-		drawTexture(matrices, this.getX() + (this.getValue() ? 14 : 0), this.getY() + (this.getHeight() / 2 - 9),
+		RenderStateTracker.enableBlend();
+		RenderStateTracker.defaultBlendFunc();
+		RenderStateTracker.blendFunc(GlStateManager.SourceFactor.SRC_ALPHA.ordinal(), GlStateManager.SourceFactor.ONE_MINUS_SRC_ALPHA.ordinal());
+		SpriteAtlas.get().drawTexture(matrices, TEXTURE, this.getX() + (this.getValue() ? 14 : 0), this.getY() + (this.getHeight() / 2 - 9),
 				this.getValue() ? 50.f : 32.f, this.isFocusedOrHovered() ? 18.f : 0.f,
 				18, 18, 68, 36);
 
@@ -73,12 +79,11 @@ public class SpruceToggleSwitch extends AbstractSpruceBooleanButtonWidget {
 	@Override
 	protected void renderBackground(MatrixStack matrices, int mouseX, int mouseY, float delta) {
 		RenderSystem.enableDepthTest();
-		RenderSystem.setShaderColor(1.f, 1.f, 1.f, this.alpha);
-		RenderSystem.setShaderTexture(0, TEXTURE);
-		RenderSystem.enableBlend();
-		RenderSystem.defaultBlendFunc();
-		RenderSystem.blendFunc(GlStateManager.SourceFactor.SRC_ALPHA.ordinal(), GlStateManager.SourceFactor.ONE_MINUS_SRC_ALPHA.ordinal());
-		drawTexture(matrices, this.getX(), this.getY() + (this.getHeight() / 2 - 9),
+		RenderStateTracker.setShaderColor(1.f, 1.f, 1.f, this.alpha);
+		RenderStateTracker.enableBlend();
+		RenderStateTracker.defaultBlendFunc();
+		RenderStateTracker.blendFunc(GlStateManager.SourceFactor.SRC_ALPHA.ordinal(), GlStateManager.SourceFactor.ONE_MINUS_SRC_ALPHA.ordinal());
+		SpriteAtlas.get().drawTexture(matrices, TEXTURE, this.getX(), this.getY() + (this.getHeight() / 2 - 9),
 				0.f, this.isFocusedOrHovered() ? 18.f : 0.f, 32, 18, 68, 36);
 	}
 
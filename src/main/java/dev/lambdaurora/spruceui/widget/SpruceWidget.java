@@ -13,12 +13,13 @@ import dev.lambdaurora.spruceui.Position;
 import dev.lambdaurora.spruceui.SprucePositioned;
 import net.minecraft.client.gui.Drawable;
 import net.minecraft.client.gui.Selectable;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a widget.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 1.6.0
  */
 public interface SpruceWidget extends SprucePositioned, SpruceElement, Selectable, Drawable {
@@ -121,4 +122,42 @@ public interface SpruceWidget extends SprucePositioned, SpruceElement, Selectabl
 	boolean isDragging();
 
 	void setDragging(boolean dragging);
+
+	/* Layout */
+
+	/**
+	 * Invalidates the layout of this widget, its measured sizes will be computed again when next needed.
+	 * <p>
+	 * The invalidation propagates to the {@linkplain #getLayoutParent() layout parent}.
+	 *
+	 * @since 3.3.1
+	 */
+	default void invalidateLayout() {
+		var parent = this.getLayoutParent();
+		if (parent != null)
+			parent.onChildLayoutInvalidated(this);
+	}
+
+	/**
+	 * Returns the layout parent of this widget, which is the first widget found in the anchor chain of its position.
+	 *
+	 * @return the layout parent if present, else {@code null}
+	 * @since 3.3.1
+	 */
+	default @Nullable SpruceWidget getLayoutParent() {
+		var anchor = this.getPosition().getAnchor();
+		while (anchor instanceof Position position)
+			anchor = position.getAnchor();
+		return anchor instanceof SpruceWidget widget && widget != this ? widget : null;
+	}
+
+	/**
+	 * Called when the layout of a child of this widget has been invalidated.
+	 *
+	 * @param child the child whose layout has been invalidated
+	 * @since 3.3.1
+	 */
+	default void onChildLayoutInvalidated(SpruceWidget child) {
+		this.invalidateLayout();
+	}
 }
@@ -17,16 +17,21 @@ import dev.lambdaurora.spruceui.widget.SpruceWidget;
 import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFW;
 
+import java.util.Optional;
+import java.util.function.Predicate;
+
 /**
  * Represents a parent widget, contains children which are other widgets.
  *
  * @param <E> the type of children widgets
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 2.0.0
  */
 public abstract class AbstractSpruceParentWidget<E extends SpruceWidget> extends AbstractSpruceWidget implements SpruceParentWidget<E> {
 	private final Class<E> childClass;
+	protected final HitTestGrid hitTestGrid = new HitTestGrid(this);
+	private final Runnable childPositionListener = this.hitTestGrid::invalidate;
 	private @Nullable E focused;
 
 	public AbstractSpruceParentWidget(Position position, Class<E> childClass) {
@@ -63,6 +68,48 @@ public abstract class AbstractSpruceParentWidget<E extends SpruceWidget> extends
 
 	protected void setOwnerShip(E child) {
 		child.getPosition().setAnchor(this);
+		child.getPosition().addChangeListener(this.childPositionListener);
+		this.hitTestGrid.invalidate();
+	}
+
+	/**
+	 * Finds the first child whose bounds contain the given coordinates.
+	 *
+	 * @param mouseX the mouse X-coordinate
+	 * @param mouseY the mouse Y-coordinate
+	 * @return the child at the given coordinates, or {@code null} if none is found
+	 * @since 3.3.1
+	 */
+	protected @Nullable E findChildAt(double mouseX, double mouseY) {
+		return this.findChildAt(mouseX, mouseY, child -> true);
+	}
+
+	/**
+	 * Finds the first child whose bounds contain the given coordinates and which matches the given predicate.
+	 * <p>
+	 * The predicate, which may dispatch input to the child, is tested at most once per child.
+	 *
+	 * @param mouseX the mouse X-coordinate
+	 * @param mouseY the mouse Y-coordinate
+	 * @param predicate the predicate
+	 * @return the matching child, or {@code null} if none matches
+	 * @since 3.3.1
+	 */
+	protected @Nullable E findChildAt(double mouseX, double mouseY, Predicate<E> predicate) {
+		return this.hitTestGrid.find(this.children(), mouseX, mouseY, predicate);
+	}
+
+	@Override
+	public Optional<E> hoveredElement(double mouseX, double mouseY) {
+		return Optional.ofNullable(this.findChildAt(mouseX, mouseY));
+	}
+
+	/* Layout */
+
+	@Override
+	public void onChildLayoutInvalidated(SpruceWidget child) {
+		this.hitTestGrid.invalidate();
+		super.onChildLayoutInvalidated(child);
 	}
 
 	/* Navigation */
@@ -80,16 +127,9 @@ public abstract class AbstractSpruceParentWidget<E extends SpruceWidget> extends
 
 	@Override
 	protected boolean onMouseClick(double mouseX, double mouseY, int button) {
-		var it = this.iterator();
-
-		E element;
-		do {
-			if (!it.hasNext()) {
-				return false;
-			}
-
-			element = it.next();
-		} while (!element.mouseClicked(mouseX, mouseY, button));
+		var element = this.findChildAt(mouseX, mouseY, child -> child.mouseClicked(mouseX, mouseY, button));
+		if (element == null)
+			return false;
 
 		this.setFocused(element);
 		if (button == GLFW.GLFW_MOUSE_BUTTON_1) {
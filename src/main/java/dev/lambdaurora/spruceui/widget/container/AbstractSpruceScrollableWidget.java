@@ -0,0 +1,305 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.widget.container;
+
+import dev.lambdaurora.spruceui.Position;
+import dev.lambdaurora.spruceui.background.Background;
+import dev.lambdaurora.spruceui.background.DirtTexturedBackground;
+import dev.lambdaurora.spruceui.border.Border;
+import dev.lambdaurora.spruceui.border.EmptyBorder;
+import dev.lambdaurora.spruceui.render.BlendMode;
+import dev.lambdaurora.spruceui.render.RenderBackend;
+import dev.lambdaurora.spruceui.util.ColorUtil;
+import dev.lambdaurora.spruceui.util.ScissorManager;
+import dev.lambdaurora.spruceui.widget.SpruceWidget;
+import dev.lambdaurora.spruceui.widget.WithBackground;
+import dev.lambdaurora.spruceui.widget.WithBorder;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.MathHelper;
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * Represents a vertically scrollable parent widget, its children are anchored to a scrolled anchor.
+ * <p>
+ * It handles the scroll amount, the scrollbar, the background, the transition borders and the border,
+ * the subclasses provide the total height of their children and render the children in the viewport.
+ *
+ * @param <E> the type of children widgets
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public abstract class AbstractSpruceScrollableWidget<E extends SpruceWidget> extends AbstractSpruceParentWidget<E>
+		implements WithBackground, WithBorder {
+	protected final Position anchor = Position.of(this, 0, 0);
+	private final int anchorYOffset;
+	private double scrollAmount;
+	private boolean scrolling = false;
+	private Background background = DirtTexturedBackground.DARKENED;
+	private boolean renderTransition = true;
+	private Border border = EmptyBorder.EMPTY_BORDER;
+
+	public AbstractSpruceScrollableWidget(Position position, int width, int height, int anchorYOffset, Class<E> childClass) {
+		super(position, childClass);
+		this.width = width;
+		this.height = height;
+		this.anchorYOffset = anchorYOffset;
+		this.anchor.setRelativeY(anchorYOffset);
+	}
+
+	/**
+	 * Returns the inner width of the widget.
+	 *
+	 * @return the inner width
+	 */
+	public int getInnerWidth() {
+		int width = this.getWidth();
+		if (this.getMaxScroll() > 0)
+			width -= 6;
+		width -= this.getBorder().getThickness() * 2;
+		return width;
+	}
+
+	@Override
+	public Background getBackground() {
+		return this.background;
+	}
+
+	@Override
+	public void setBackground(Background background) {
+		this.background = background;
+	}
+
+	/**
+	 * Returns whether or not the transition borders are rendered.
+	 *
+	 * @return {@code true} if the transition should be rendered, else {@code false}
+	 */
+	public boolean shouldRenderTransition() {
+		return this.renderTransition;
+	}
+
+	/**
+	 * Sets whether or not the transition borders are rendered.
+	 *
+	 * @param render {@code true} if the transition should be rendered, else {@code false}
+	 */
+	public void setRenderTransition(boolean render) {
+		this.renderTransition = render;
+	}
+
+	@Override
+	public Border getBorder() {
+		return this.border;
+	}
+
+	@Override
+	public void setBorder(Border border) {
+		this.border = border;
+		this.anchor.setRelativeX(border.getThickness());
+		this.setScrollAmount(this.scrollAmount);
+	}
+
+	/* Scrolling */
+
+	/**
+	 * Returns the total height of the children.
+	 *
+	 * @return the total height of the children
+	 */
+	public abstract int getMaxPosition();
+
+	/**
+	 * Returns the number of scrolled rows, the mouse wheel scrolls by half of their average height.
+	 *
+	 * @return the number of rows
+	 */
+	protected abstract int getEntriesCount();
+
+	protected void scroll(int amount) {
+		this.setScrollAmount(this.getScrollAmount() + (double) amount);
+	}
+
+	/**
+	 * Gets the scroll amount of this widget. The amount is clamped between 0 and the maximum scroll ({@link #getMaxScroll()}).
+	 *
+	 * @return the scroll amount
+	 */
+	public double getScrollAmount() {
+		return this.scrollAmount;
+	}
+
+	/**
+	 * Sets the scroll amount of this widget. The amount is clamped between 0 and the maximum scroll ({@link #getMaxScroll()}).
+	 *
+	 * @param amount the scroll amount
+	 * @see #onScrolled()
+	 */
+	public void setScrollAmount(double amount) {
+		this.scrollAmount = MathHelper.clamp(amount, 0, this.getMaxScroll());
+		this.anchor.setRelativeY((int) (this.anchorYOffset + this.getBorder().getThickness() - this.scrollAmount));
+		this.onScrolled();
+	}
+
+	/**
+	 * Called after the scroll amount has been set, to update the children entering or leaving the viewport.
+	 */
+	protected void onScrolled() {
+	}
+
+	/**
+	 * Returns the max scroll. The scroll amount can't go past this maximum.
+	 *
+	 * @return the max scroll
+	 */
+	public int getMaxScroll() {
+		return Math.max(0, this.getMaxPosition() - this.getHeight() + 8);
+	}
+
+	protected int getScrollbarPositionX() {
+		return this.getX() + this.getWidth() - 6 - this.getBorder().getThickness();
+	}
+
+	/**
+	 * Scrolls the least needed for the given row to be fully visible.
+	 *
+	 * @param rowTop the Y-coordinate of the top of the row, relative to this widget
+	 * @param rowHeight the height of the row
+	 */
+	protected void ensureVisible(int rowTop, int rowHeight) {
+		int rowBottom = rowTop + rowHeight;
+		if (rowTop < 0)
+			this.scroll(rowTop);
+		else if (rowBottom > this.getHeight())
+			this.scroll(rowBottom - this.getHeight());
+	}
+
+	/* Layout */
+
+	@Override
+	public void setHeight(int height) {
+		super.setHeight(height);
+		this.setScrollAmount(this.getScrollAmount());
+	}
+
+	/* Input */
+
+	@Override
+	protected boolean onMouseClick(double mouseX, double mouseY, int button) {
+		this.scrolling = button == GLFW.GLFW_MOUSE_BUTTON_1 && mouseX >= this.getScrollbarPositionX() && mouseX < (this.getScrollbarPositionX() + 6);
+		return super.onMouseClick(mouseX, mouseY, button) || this.scrolling;
+	}
+
+	@Override
+	protected boolean onMouseDrag(double mouseX, double mouseY, int button, double deltaX, double deltaY) {
+		if (super.onMouseDrag(mouseX, mouseY, button, deltaX, deltaY)) return true;
+		else if (button == GLFW.GLFW_MOUSE_BUTTON_1 && this.scrolling) {
+			if (mouseY < this.getY()) {
+				this.setScrollAmount(0);
+			} else if (mouseY > (this.getY() + this.getHeight())) {
+				this.setScrollAmount(this.getMaxScroll());
+			} else {
+				double d = Math.max(1, this.getMaxScroll());
+				int height = this.height;
+				int j = MathHelper.clamp((int) ((float) (height * height) / (float) this.getMaxPosition()), 32, height - 8);
+				double e = Math.max(1, d / (double) (height - j));
+				this.setScrollAmount(this.getScrollAmount() + deltaY * e);
+			}
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	protected boolean onMouseScroll(double mouseX, double mouseY, double amount) {
+		if (super.onMouseScroll(mouseX, mouseY, amount)) return true;
+		if (this.getEntriesCount() == 0) return false;
+		this.setScrollAmount(this.getScrollAmount() - amount * ((double) this.getMaxPosition() / this.getEntriesCount()) / 2);
+		return true;
+	}
+
+	/* Rendering */
+
+	@Override
+	protected void renderBackground(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+		this.getBackground().render(matrices, this, 0, mouseX, mouseY, delta);
+	}
+
+	@Override
+	protected void renderWidget(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+		int scrollbarPositionX = this.getScrollbarPositionX();
+		int scrollBarEnd = scrollbarPositionX + 6;
+		int left = this.getX();
+		int right = left + this.getWidth();
+		int top = this.getY();
+		int bottom = top + this.getHeight();
+
+		ScissorManager.push(this.getX(), this.getY(), this.getWidth(), this.getHeight());
+		this.renderEntries(matrices, mouseX, mouseY, delta);
+		ScissorManager.pop();
+
+		var backend = RenderBackend.get();
+		// Render the transition thingy.
+		if (this.shouldRenderTransition()) {
+			int opaque = ColorUtil.BLACK;
+			int transparent = 0;
+			// TOP
+			backend.quad(BlendMode.TRANSLUCENT, left, top + 4, transparent, right, top + 4, transparent, right, top, opaque, left, top, opaque);
+			// RIGHT
+			backend.quad(BlendMode.TRANSLUCENT, right - 4, bottom, transparent, right, bottom, opaque, right, top, opaque, right - 4, top, transparent);
+			// BOTTOM
+			backend.quad(BlendMode.TRANSLUCENT, left, bottom, opaque, right, bottom, opaque, right, bottom - 4, transparent, left, bottom - 4, transparent);
+			// LEFT
+			backend.quad(BlendMode.TRANSLUCENT, left, bottom, opaque, left + 4, bottom, transparent, left + 4, top, transparent, left, top, opaque);
+		}
+
+		// Scrollbar
+		int maxScroll = this.getMaxScroll();
+		if (maxScroll > 0) {
+			int scrollbarHeight = (int) ((float) ((this.getHeight()) * (this.getHeight())) / (float) this.getMaxPosition());
+			scrollbarHeight = MathHelper.clamp(scrollbarHeight, 32, this.getHeight() - 8);
+			int scrollbarY = (int) this.getScrollAmount() * (this.getHeight() - scrollbarHeight) / maxScroll + this.getY();
+			if (scrollbarY < this.getY()) {
+				scrollbarY = this.getY();
+			}
+
+			this.renderScrollbar(backend, scrollbarPositionX, scrollBarEnd, scrollbarY, scrollbarHeight);
+		}
+
+		// Borders may draw directly, they must not end up below the recorded quads.
+		backend.flush();
+		this.getBorder().render(matrices, this, mouseX, mouseY, delta);
+	}
+
+	/**
+	 * Renders the children intersecting the viewport, the rendering is scissored to the bounds of this widget.
+	 *
+	 * @param matrices the matrices
+	 * @param mouseX the mouse X-coordinate
+	 * @param mouseY the mouse Y-coordinate
+	 * @param delta the tick delta
+	 */
+	protected abstract void renderEntries(MatrixStack matrices, int mouseX, int mouseY, float delta);
+
+	/**
+	 * Records the scrollbar quads.
+	 *
+	 * @param backend the render backend
+	 * @param scrollbarX the left X-coordinate of the scrollbar
+	 * @param scrollbarEndX the right X-coordinate of the scrollbar
+	 * @param scrollbarY the Y-coordinate of the scrollbar thumb
+	 * @param scrollbarHeight the height of the scrollbar thumb
+	 */
+	protected void renderScrollbar(RenderBackend backend, int scrollbarX, int scrollbarEndX, int scrollbarY, int scrollbarHeight) {
+		backend.fill(BlendMode.TRANSLUCENT, scrollbarX, this.getY(), scrollbarEndX, this.getY() + this.getHeight(), ColorUtil.BLACK);
+		backend.fill(BlendMode.TRANSLUCENT, scrollbarX, scrollbarY, scrollbarEndX, scrollbarY + scrollbarHeight, 0xff808080);
+		backend.fill(BlendMode.TRANSLUCENT, scrollbarX, scrollbarY, scrollbarEndX - 1, scrollbarY + scrollbarHeight - 1, 0xffc0c0c0);
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.widget.container;
+
+import dev.lambdaurora.spruceui.widget.SpruceWidget;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Represents a uniform grid indexing the bounds of the children of a parent widget, used to route mouse input.
+ * <p>
+ * The bounds are stored relative to the parent, so moving the parent doesn't invalidate the grid.
+ * The grid is rebuilt lazily after an {@link #invalidate() invalidation} or a change in the number of children,
+ * the owner of the grid is thus expected to invalidate it whenever a child moves or is resized.
+ * <p>
+ * Lookups walk the candidates of the cell at the given coordinates in order, and only test the predicate on the candidates
+ * whose bounds contain the coordinates, each at most once.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public final class HitTestGrid {
+	/**
+	 * The number of children under which a linear scan is cheaper than the grid.
+	 */
+	public static final int THRESHOLD = 8;
+	private static final int MIN_CELL_SIZE = 8;
+	private static final int MAX_CELLS_PER_AXIS = 128;
+
+	private final SpruceWidget parent;
+	private boolean dirty = true;
+	private int indexedCount = -1;
+	private int minX;
+	private int minY;
+	private int cellWidth;
+	private int cellHeight;
+	private int columns;
+	private int rows;
+	// Compressed cells: the children indices of cell i are cellItems[cellStarts[i]..cellStarts[i + 1]], in ascending order.
+	private int[] cellStarts = new int[0];
+	private int[] cellItems = new int[0];
+
+	public HitTestGrid(SpruceWidget parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Marks the grid as outdated, it will be rebuilt on the next lookup.
+	 */
+	public void invalidate() {
+		this.dirty = true;
+	}
+
+	/**
+	 * Finds the first child in order whose bounds contain the given coordinates.
+	 *
+	 * @param children the children of the parent
+	 * @param mouseX the mouse X-coordinate
+	 * @param mouseY the mouse Y-coordinate
+	 * @param <E> the type of children
+	 * @return the child at the given coordinates, or {@code null} if none is found
+	 */
+	public <E extends SpruceWidget> @Nullable E find(List<E> children, double mouseX, double mouseY) {
+		return this.find(children, mouseX, mouseY, child -> true);
+	}
+
+	/**
+	 * Finds the first child in order whose bounds contain the given coordinates and which matches the given predicate.
+	 * <p>
+	 * The predicate, which may dispatch input to the child, is tested at most once per child.
+	 *
+	 * @param children the children of the parent
+	 * @param mouseX the mouse X-coordinate
+	 * @param mouseY the mouse Y-coordinate
+	 * @param predicate the predicate
+	 * @param <E> the type of children
+	 * @return the matching child, or {@code null} if none matches
+	 */
+	public <E extends SpruceWidget> @Nullable E find(List<E> children, double mouseX, double mouseY, Predicate<E> predicate) {
+		if (children.size() < THRESHOLD) {
+			for (var child : children) {
+				if (child.isMouseOver(mouseX, mouseY) && predicate.test(child))
+					return child;
+			}
+			return null;
+		}
+
+		if (this.dirty || this.indexedCount != children.size())
+			this.rebuild(children);
+
+		int cell = this.getCell(mouseX - this.parent.getX(), mouseY - this.parent.getY());
+		if (cell != -1) {
+			for (int i = this.cellStarts[cell]; i < this.cellStarts[cell + 1]; i++) {
+				var child = children.get(this.cellItems[i]);
+				if (child.isMouseOver(mouseX, mouseY) && predicate.test(child))
+					return child;
+			}
+		}
+		return null;
+	}
+
+	private int getCell(double x, double y) {
+		int column = (int) Math.floor((x - this.minX) / this.cellWidth);
+		int row = (int) Math.floor((y - this.minY) / this.cellHeight);
+		if (column < 0 || column >= this.columns || row < 0 || row >= this.rows)
+			return -1;
+		return row * this.columns + column;
+	}
+
+	private void rebuild(List<? extends SpruceWidget> children) {
+		int count = children.size();
+		int originX = this.parent.getX();
+		int originY = this.parent.getY();
+		int[] bounds = new int[count * 4];
+
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+		long totalWidth = 0, totalHeight = 0;
+		for (int i = 0; i < count; i++) {
+			var child = children.get(i);
+			int x = child.getX() - originX;
+			int y = child.getY() - originY;
+			int width = Math.max(0, child.getWidth());
+			int height = Math.max(0, child.getHeight());
+			bounds[i * 4] = x;
+			bounds[i * 4 + 1] = y;
+			bounds[i * 4 + 2] = x + width;
+			bounds[i * 4 + 3] = y + height;
+			minX = Math.min(minX, x);
+			minY = Math.min(minY, y);
+			maxX = Math.max(maxX, x + width);
+			maxY = Math.max(maxY, y + height);
+			totalWidth += width;
+			totalHeight += height;
+		}
+
+		this.minX = minX;
+		this.minY = minY;
+		this.cellWidth = Math.max(Math.max(MIN_CELL_SIZE, (int) (totalWidth / count)), ceilDiv(maxX - minX, MAX_CELLS_PER_AXIS));
+		this.cellHeight = Math.max(Math.max(MIN_CELL_SIZE, (int) (totalHeight / count)), ceilDiv(maxY - minY, MAX_CELLS_PER_AXIS));
+		this.columns = Math.max(1, ceilDiv(maxX - minX, this.cellWidth));
+		this.rows = Math.max(1, ceilDiv(maxY - minY, this.cellHeight));
+
+		int cells = this.columns * this.rows;
+		if (this.cellStarts.length < cells + 1)
+			this.cellStarts = new int[cells + 1];
+		else
+			Arrays.fill(this.cellStarts, 0);
+
+		// First pass counts the children per cell, second pass fills the cells in children order.
+		for (int pass = 0; pass < 2; pass++) {
+			for (int i = 0; i < count; i++) {
+				int fromColumn = (bounds[i * 4] - minX) / this.cellWidth;
+				int fromRow = (bounds[i * 4 + 1] - minY) / this.cellHeight;
+				int toColumn = Math.min(this.columns - 1, Math.max(fromColumn, (bounds[i * 4 + 2] - 1 - minX) / this.cellWidth));
+				int toRow = Math.min(this.rows - 1, Math.max(fromRow, (bounds[i * 4 + 3] - 1 - minY) / this.cellHeight));
+				for (int row = fromRow; row <= toRow; row++) {
+					for (int column = fromColumn; column <= toColumn; column++) {
+						int cell = row * this.columns + column;
+						if (pass == 0)
+							this.cellStarts[cell + 1]++;
+						else
+							this.cellItems[this.cellStarts[cell]++] = i;
+					}
+				}
+			}
+
+			if (pass == 0) {
+				for (int cell = 0; cell < cells; cell++)
+					this.cellStarts[cell + 1] += this.cellStarts[cell];
+				if (this.cellItems.length < this.cellStarts[cells])
+					this.cellItems = new int[this.cellStarts[cells]];
+			} else {
+				// The fill pass shifted each start to the start of the next cell.
+				System.arraycopy(this.cellStarts, 0, this.cellStarts, 1, cells);
+				this.cellStarts[0] = 0;
+			}
+		}
+
+		this.indexedCount = count;
+		this.dirty = false;
+	}
+
+	private static int ceilDiv(int value, int divisor) {
+		return (value + divisor - 1) / divisor;
+	}
+}
@@ -10,123 +10,47 @@
 package dev.lambdaurora.spruceui.widget.container;
 
 import com.google.common.collect.Lists;
-import com.mojang.blaze3d.platform.GlStateManager;
-import com.mojang.blaze3d.systems.RenderSystem;
-//import com.mojang.blaze3d.vertex.BufferBuilder;
-//import com.mojang.blaze3d.vertex.Tessellator;
-//import com.mojang.blaze3d.vertex.VertexFormat;
-//import com.mojang.blaze3d.vertex.VertexFormats;
-import com.mojang.blaze3d.vertex.BufferBuilder;
-import com.mojang.blaze3d.vertex.Tessellator;
-import com.mojang.blaze3d.vertex.VertexFormat;
-import com.mojang.blaze3d.vertex.VertexFormats;
 import dev.lambdaurora.spruceui.Position;
-import dev.lambdaurora.spruceui.background.Background;
-import dev.lambdaurora.spruceui.background.DirtTexturedBackground;
-import dev.lambdaurora.spruceui.border.Border;
-import dev.lambdaurora.spruceui.border.EmptyBorder;
 import dev.lambdaurora.spruceui.navigation.NavigationDirection;
-import dev.lambdaurora.spruceui.util.ScissorManager;
+import dev.lambdaurora.spruceui.profiler.jfr.ListRebuildEvent;
+import dev.lambdaurora.spruceui.util.FenwickTree;
 import dev.lambdaurora.spruceui.widget.AbstractSpruceWidget;
-import dev.lambdaurora.spruceui.widget.WithBackground;
-import dev.lambdaurora.spruceui.widget.WithBorder;
+import dev.lambdaurora.spruceui.widget.SpruceWidget;
 //import net.fabricmc.api.EnvType;
 //import net.fabricmc.api.Environment;
 import net.minecraft.client.gui.screen.narration.NarrationMessageBuilder;
 import net.minecraft.client.gui.screen.narration.NarrationPart;
-import net.minecraft.client.render.*;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.jetbrains.annotations.Nullable;
-import org.lwjgl.glfw.GLFW;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Represents an entry list.
  *
  * @param <E> the type of entry
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 2.0.0
  */
-public abstract class SpruceEntryListWidget<E extends SpruceEntryListWidget.Entry> extends AbstractSpruceParentWidget<E>
-		implements WithBackground, WithBorder {
-	protected final Position anchor = Position.of(this, 0, 0);
-	private final List<E> entries = new Entries();
-	private final int anchorYOffset;
-	private double scrollAmount;
-	private Background background = DirtTexturedBackground.DARKENED;
-	private boolean renderTransition = true;
-	private Border border = EmptyBorder.EMPTY_BORDER;
-	private boolean scrolling = false;
+public abstract class SpruceEntryListWidget<E extends SpruceEntryListWidget.Entry> extends AbstractSpruceScrollableWidget<E> {
+	private final Entries entries = new Entries();
+	private int visibleStart = 0;
+	private int visibleEnd = 0;
+	private boolean updatingVisibleEntries = false;
+	private final List<E> pendingHeightUpdates = new ArrayList<>();
 	private boolean allowOutsideHorizontalNavigation = false;
 
 	public SpruceEntryListWidget(Position position, int width, int height, int anchorYOffset, Class<E> entryClass) {
-		super(position, entryClass);
-		this.width = width;
-		this.height = height;
-		this.anchorYOffset = anchorYOffset;
-		this.anchor.setRelativeY(anchorYOffset);
-	}
-
-	/**
-	 * Returns the inner width of the list.
-	 *
-	 * @return the inner width
-	 */
-	public int getInnerWidth() {
-		int width = this.getWidth();
-		if (this.getMaxScroll() > 0)
-			width -= 6;
-		width -= this.getBorder().getThickness() * 2;
-		return width;
-	}
-
-	@Override
-	public Background getBackground() {
-		return this.background;
-	}
-
-	@Override
-	public void setBackground(Background background) {
-		this.background = background;
-	}
-
-	/**
-	 * Returns whether or not the transition borders are rendered.
-	 *
-	 * @return {@code true} if the transition should be rendered, else {@code false}
-	 */
-	public boolean shouldRenderTransition() {
-		return this.renderTransition;
-	}
-
-	/**
-	 * Sets whether or not the transition borders are rendered.
-	 *
-	 * @param render {@code true} if the transition should be rendered, else {@code false}
-	 */
-	public void setRenderTransition(boolean render) {
-		this.renderTransition = render;
-	}
-
-	@Override
-	public Border getBorder() {
-		return this.border;
-	}
-
-	@Override
-	public void setBorder(Border border) {
-		this.border = border;
-		this.anchor.setRelativeX(border.getThickness());
-		if (this.anchor.getRelativeY() == this.anchorYOffset && this.hasBorder())
-			this.anchor.setRelativeY(this.anchorYOffset + border.getThickness());
+		super(position, width, height, anchorYOffset, entryClass);
 	}
 
 	public boolean doesAllowOutsideHorizontalNavigation() {
@@ -137,58 +61,84 @@ public abstract class SpruceEntryListWidget<E extends SpruceEntryListWidget.Entr
 		this.allowOutsideHorizontalNavigation = allowOutsideHorizontalNavigation;
 	}
 
+	/**
+	 * Returns the total height of the entries up to the given index, inclusive.
+	 *
+	 * @param index the index of the last entry to include
+	 * @return the total height of the entries up to the given index
+	 */
 	protected int getLengthUntil(int index) {
-		int max = 0;
-		for (int i = 0; i <= index; i++) {
-			max += this.entries.get(i).getHeight();
-		}
-		return max;
+		return this.entries.heights.prefixSum(MathHelper.clamp(index + 1, 0, this.entries.size()));
 	}
 
+	@Override
 	public int getMaxPosition() {
-		return this.getLengthUntil(this.getEntriesCount() - 1);
-	}
-
-	private void scroll(int amount) {
-		this.setScrollAmount(this.getScrollAmount() + (double) amount);
+		return this.entries.heights.total();
 	}
 
 	/**
-	 * Gets the scroll amount of this list. The amount is clamped between 0 and the maximum scroll ({@link #getMaxScroll()}).
-	 *
-	 * @return the scroll amount
+	 * {@inheritDoc}
+	 * <p>
+	 * It recomputes the visibility of the entries entering or leaving the viewport.
 	 */
-	public double getScrollAmount() {
-		return this.scrollAmount;
+	@Override
+	protected void onScrolled() {
+		this.updateVisibleEntries();
 	}
 
 	/**
-	 * Sets the scroll amount of this list. The amount is clamped between 0 and the maximum scroll ({@link #getMaxScroll()}).
+	 * Updates the window of entries visible in the list.
 	 * <p>
-	 * It also recompute the visibility of each entries.
-	 *
-	 * @param amount the scroll amount
+	 * Only the entries entering or leaving the window get their visibility updated.
 	 */
-	public void setScrollAmount(double amount) {
-		this.scrollAmount = MathHelper.clamp(amount, 0, this.getMaxScroll());
-		this.anchor.setRelativeY((int) (this.anchorYOffset + this.getBorder().getThickness() - this.scrollAmount));
+	private void updateVisibleEntries() {
+		if (this.entries.updateDepth > 0 || this.updatingVisibleEntries)
+			return;
+		this.updatingVisibleEntries = true;
+
+		int start = 0;
+		int end = 0;
+		int size = this.entries.size();
+		if (size != 0) {
+			// Relative to the first entry, the viewport bounds are inclusive.
+			int top = -this.anchor.getRelativeY();
+			int bottom = top + this.getHeight();
+			if (bottom >= 0) {
+				start = Math.min(this.entries.heights.indexOf(top - 1), size);
+				end = Math.min(this.entries.heights.indexOf(bottom), size - 1) + 1;
+				if (start >= end)
+					start = end = 0;
+			}
+		}
 
-		for (var entry : this.entries) {
-			entry.setVisibleInList(!(entry.getY() + entry.getHeight() < this.getY() || entry.getY() > this.getY() + this.getHeight()));
+		int oldStart = this.visibleStart;
+		int oldEnd = this.visibleEnd;
+		this.setVisibleInList(oldStart, Math.min(oldEnd, start), false);
+		this.setVisibleInList(Math.max(oldStart, end), oldEnd, false);
+		this.setVisibleInList(start, Math.min(end, oldStart), true);
+		this.setVisibleInList(Math.max(start, oldEnd), end, true);
+		this.visibleStart = start;
+		this.visibleEnd = end;
+		this.updatingVisibleEntries = false;
+
+		// Entries may change their height when becoming visible.
+		while (!this.pendingHeightUpdates.isEmpty()) {
+			this.updateEntryHeight(this.pendingHeightUpdates.remove(this.pendingHeightUpdates.size() - 1));
 		}
 	}
 
 	/**
-	 * Returns the max scroll. The scroll amount can't go past this maximum.
-	 *
-	 * @return the max scroll
+	 * Hides the entries of the visible window, called before the indices of the window entries change.
 	 */
-	public int getMaxScroll() {
-		return Math.max(0, this.getMaxPosition() - this.getHeight() + 8);
+	private void hideVisibleEntries() {
+		this.setVisibleInList(this.visibleStart, this.visibleEnd, false);
+		this.visibleStart = this.visibleEnd = 0;
 	}
 
-	protected int getScrollbarPositionX() {
-		return this.getX() + this.getWidth() - 6 - this.getBorder().getThickness();
+	private void setVisibleInList(int start, int end, boolean visible) {
+		for (int i = start; i < end; i++) {
+			this.entries.get(i).setVisibleInList(visible);
+		}
 	}
 
 	@Override
@@ -203,13 +153,57 @@ public abstract class SpruceEntryListWidget<E extends SpruceEntryListWidget.Entr
 
 	protected void replaceEntries(Collection<E> newEntries) {
 		var oldFocused = this.getFocused();
+		this.beginUpdate();
 		this.entries.clear();
 		this.entries.addAll(newEntries);
+		this.endUpdate();
 		if (!newEntries.contains(oldFocused)) {
 			this.setFocused(null);
 		}
 	}
 
+	/**
+	 * Replaces the entries in the given range.
+	 *
+	 * @param fromIndex the start index of the range to replace, inclusive
+	 * @param toIndex the end index of the range to replace, exclusive
+	 * @param newEntries the replacing entries
+	 * @since 3.3.1
+	 */
+	protected void replaceEntries(int fromIndex, int toIndex, Collection<? extends E> newEntries) {
+		var oldFocused = this.getFocused();
+		this.beginUpdate();
+		this.entries.subList(fromIndex, toIndex).clear();
+		this.entries.addAll(fromIndex, newEntries);
+		this.endUpdate();
+		if (oldFocused != null && !this.entries.contains(oldFocused)) {
+			this.setFocused(null);
+		}
+	}
+
+	/**
+	 * Starts a batch update of the entries.
+	 * <p>
+	 * Until the matching {@link #endUpdate()}, mutations of the entries don't recompute the positions
+	 * nor assign the ownership of the new entries, this is done once at the end of the update.
+	 * Batch updates can be nested.
+	 *
+	 * @since 3.3.1
+	 */
+	protected void beginUpdate() {
+		this.entries.beginUpdate();
+	}
+
+	/**
+	 * Ends a batch update of the entries, the positions and ownerships are updated once the outermost update ends.
+	 *
+	 * @see #beginUpdate()
+	 * @since 3.3.1
+	 */
+	protected void endUpdate() {
+		this.entries.endUpdate();
+	}
+
 	protected @Nullable E getEntry(int index) {
 		return this.children().get(index);
 	}
@@ -219,6 +213,16 @@ public abstract class SpruceEntryListWidget<E extends SpruceEntryListWidget.Entr
 		return this.entries.size() - 1;
 	}
 
+	/**
+	 * Adds the given entries in a single batch update.
+	 *
+	 * @param newEntries the entries to add
+	 * @since 3.3.1
+	 */
+	protected void addEntries(Collection<? extends E> newEntries) {
+		this.entries.addAll(newEntries);
+	}
+
 	protected boolean removeEntry(E entry) {
 		if (this.getFocused() == entry) {
 			this.refocusOnRemoval(entry);
@@ -226,6 +230,43 @@ public abstract class SpruceEntryListWidget<E extends SpruceEntryListWidget.Entr
 		return this.entries.remove(entry);
 	}
 
+	/**
+	 * Removes the entries matching the given filter in a single batch update.
+	 *
+	 * @param filter the filter of the entries to remove
+	 * @return {@code true} if any entry has been removed, else {@code false}
+	 * @since 3.3.1
+	 */
+	protected boolean removeEntries(Predicate<? super E> filter) {
+		var focused = this.getFocused();
+		if (focused == null || !filter.test(focused))
+			return this.entries.removeIf(filter);
+
+		// Like removeEntry, the focus moves to the closest remaining entry before the focused one, else after it.
+		// The remaining neighbours are tracked while removing, so the filter isn't tested more than by the removal itself.
+		var neighbours = new ArrayList<E>(2);
+		boolean[] passedFocused = {false};
+		boolean removed = this.entries.removeIf(entry -> {
+			if (entry == focused) {
+				passedFocused[0] = true;
+				return true;
+			}
+
+			boolean remove = filter.test(entry);
+			if (!remove) {
+				if (!passedFocused[0]) {
+					neighbours.clear();
+					neighbours.add(entry);
+				} else if (neighbours.size() < 2) {
+					neighbours.add(entry);
+				}
+			}
+			return remove;
+		});
+		this.setFocused(neighbours.isEmpty() ? null : neighbours.get(0));
+		return removed;
+	}
+
 	protected void refocusOnRemoval(E focused) {
 		int i = this.entries.indexOf(focused);
 		if (i == -1)
@@ -241,6 +282,7 @@ public abstract class SpruceEntryListWidget<E extends SpruceEntryListWidget.Entr
 			this.setFocused(this.getEntry(newIndex));
 	}
 
+	@Override
 	protected int getEntriesCount() {
 		return this.children().size();
 	}
@@ -251,169 +293,149 @@ public abstract class SpruceEntryListWidget<E extends SpruceEntryListWidget.Entr
 	 * @param entry the entry which needs to be visible
 	 */
 	protected void ensureVisible(E entry) {
-		int index = this.children().indexOf(entry);
-		int rowTop = this.getRowTop(index);
-		int j = rowTop - this.getY() - entry.getHeight() - 8;
-		if (j < 0) {
-			this.scroll(j);
-		}
-
-		int nextHeight = 0;
-		if (index < this.getEntriesCount() - 1)
-			nextHeight = this.children().get(index + 1).getHeight();
-		int k = this.getY() + this.getHeight() - rowTop - entry.getHeight() + nextHeight;
-		if (k < 0) {
-			this.scroll(-k);
-		}
+		this.ensureVisible(this.anchor.getRelativeY() + entry.getPosition().getRelativeY(), entry.getHeight());
 	}
 
 	protected int getRowTop(int index) {
 		return this.getY() + 4 - (int) this.getScrollAmount() + this.getLengthUntil(index);
 	}
 
-	@Override
-	protected void setOwnerShip(E entry) {
-		entry.getPosition().setAnchor(this.anchor);
-		entry.setVisibleInList(!(entry.getY() + entry.getHeight() < this.getY() || entry.getY() > this.getY() + this.getHeight()));
+	/**
+	 * Returns the index of the entry at the given Y-coordinate relative to the top of the entries.
+	 * <p>
+	 * The lookup runs in {@code O(log n)} using the height index of the entries.
+	 *
+	 * @param y the Y-coordinate relative to the first entry
+	 * @return the index of the entry at the given Y-coordinate, clamped to the entries
+	 * @since 3.3.1
+	 */
+	protected int getEntryIndexAt(int y) {
+		return Math.max(0, Math.min(this.entries.heights.indexOf(y), this.entries.size() - 1));
 	}
 
-	/* Navigation */
-
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The entries being stacked, the only candidate is the entry found by the height index at the given Y-coordinate.
+	 */
 	@Override
-	public boolean onNavigation(NavigationDirection direction, boolean tab) {
-		if (this.requiresCursor()) return false;
-		if (direction.isHorizontal() && this.getFocused() != null) {
-			boolean result = this.getFocused().onNavigation(direction, tab);
-			return !this.allowOutsideHorizontalNavigation || result;
-		}
-		boolean result = super.onNavigation(direction, tab);
-		if (result) this.ensureVisible(this.getFocused());
-		return result;
+	protected @Nullable E findChildAt(double mouseX, double mouseY, Predicate<E> predicate) {
+		if (this.entries.isEmpty())
+			return null;
+
+		var entry = this.entries.get(this.getEntryIndexAt((int) Math.floor(mouseY) - this.anchor.getY()));
+		return entry.isMouseOver(mouseX, mouseY) && predicate.test(entry) ? entry : null;
 	}
 
-	/* Input */
+	/**
+	 * Updates the height index and the positions of the entries after the height of the given entry changed.
+	 * <p>
+	 * If called while the entries are being updated, the update is deferred to the end of the current update.
+	 *
+	 * @param entry the entry whose height changed
+	 * @since 3.3.1
+	 */
+	protected void updateEntryHeight(E entry) {
+		if (this.entries.updateDepth > 0 || this.updatingVisibleEntries) {
+			this.pendingHeightUpdates.add(entry);
+			return;
+		}
 
-	@Override
-	protected boolean onMouseClick(double mouseX, double mouseY, int button) {
-		this.scrolling = button == GLFW.GLFW_MOUSE_BUTTON_1 && mouseX >= this.getScrollbarPositionX() && mouseX < (this.getScrollbarPositionX() + 6);
-		return super.onMouseClick(mouseX, mouseY, button) || this.scrolling;
+		int index = this.indexOfEntry(entry);
+		if (index != -1 && this.entries.updateHeight(index))
+			this.updateVisibleEntries();
 	}
 
-	@Override
-	protected boolean onMouseDrag(double mouseX, double mouseY, int button, double deltaX, double deltaY) {
-		if (super.onMouseDrag(mouseX, mouseY, button, deltaX, deltaY)) return true;
-		else if (button == GLFW.GLFW_MOUSE_BUTTON_1 && this.scrolling) {
-			if (mouseY < this.getY()) {
-				this.setScrollAmount(0);
-			} else if (mouseY > (this.getY() + this.getHeight())) {
-				this.setScrollAmount(this.getMaxScroll());
-			} else {
-				double d = Math.max(1, this.getMaxScroll());
-				int height = this.height;
-				int j = MathHelper.clamp((int) ((float) (height * height) / (float) this.getMaxPosition()), 32, height - 8);
-				double e = Math.max(1, d / (double) (height - j));
-				this.setScrollAmount(this.getScrollAmount() + deltaY * e);
-			}
-			return true;
+	/**
+	 * Returns the index of the given entry, looking first in the visible window as most updates come from visible entries.
+	 */
+	private int indexOfEntry(E entry) {
+		for (int i = this.visibleStart; i < this.visibleEnd; i++) {
+			if (this.entries.get(i) == entry)
+				return i;
 		}
-		return false;
+		return this.entries.indexOf(entry);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The visibility of the entry is updated along with the visible window of the list.
+	 */
 	@Override
-	protected boolean onMouseScroll(double mouseX, double mouseY, double amount) {
-		if (super.onMouseScroll(mouseX, mouseY, amount)) return true;
-		this.setScrollAmount(this.getScrollAmount() - amount * ((double) this.getMaxPosition() / this.getEntriesCount()) / 2);
-		return true;
+	protected void setOwnerShip(E entry) {
+		entry.getPosition().setAnchor(this.anchor);
 	}
 
-	/* Rendering */
+	/* Layout */
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The size of the list doesn't depend on its entries, only the height index is updated.
+	 */
+	@SuppressWarnings("unchecked")
 	@Override
-	protected void renderBackground(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-		this.getBackground().render(matrices, this, 0, mouseX, mouseY, delta);
+	public void onChildLayoutInvalidated(SpruceWidget child) {
+		this.updateEntryHeight((E) child);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The entries spanning the width of the list, they are all measured again.
+	 */
 	@Override
-	protected void renderWidget(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-		int scrollbarPositionX = this.getScrollbarPositionX();
-		int scrollBarEnd = scrollbarPositionX + 6;
-		int left = this.getX();
-		int right = left + this.getWidth();
-		int top = this.getY();
-		int bottom = top + this.getHeight();
-
-		ScissorManager.push(this.getX(), this.getY(), this.getWidth(), this.getHeight());
-		this.entries.forEach(e -> e.render(matrices, mouseX, mouseY, delta));
-		ScissorManager.pop();
-
-		var tessellator = Tessellator.getInstance();
-		var buffer = tessellator.getBufferBuilder();
-		// Render the transition thingy.
-		if (this.shouldRenderTransition()) {
-			RenderSystem.enableBlend();
-			RenderSystem.blendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA.ordinal(), GlStateManager.SourceFactor.ONE_MINUS_SRC_ALPHA.ordinal(), GlStateManager.SourceFactor.ZERO.ordinal(), GlStateManager.SourceFactor.ONE.ordinal());
-			RenderSystem.disableTexture();
-			RenderSystem.setShader(GameRenderer::getPositionColorShader);
-			buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
-			// TOP
-			buffer.vertex(left, top + 4, 0).color(0, 0, 0, 0).next();
-			buffer.vertex(right, top + 4, 0).color(0, 0, 0, 0).next();
-			buffer.vertex(right, top, 0).color(0, 0, 0, 255).next();
-			buffer.vertex(left, top, 0).color(0, 0, 0, 255).next();
-			// RIGHT
-			buffer.vertex(right - 4, bottom, 0).color(0, 0, 0, 0).next();
-			buffer.vertex(right, bottom, 0).color(0, 0, 0, 255).next();
-			buffer.vertex(right, top, 0).color(0, 0, 0, 255).next();
-			buffer.vertex(right - 4, top, 0).color(0, 0, 0, 0).next();
-			// BOTTOM
-			buffer.vertex(left, bottom, 0).color(0, 0, 0, 255).next();
-			buffer.vertex(right, bottom, 0).color(0, 0, 0, 255).next();
-			buffer.vertex(right, bottom - 4, 0).color(0, 0, 0, 0).next();
-			buffer.vertex(left, bottom - 4, 0).color(0, 0, 0, 0).next();
-			// LEFT
-			buffer.vertex(left, bottom, 0).color(0, 0, 0, 255).next();
-			buffer.vertex(left + 4, bottom, 0).color(0, 0, 0, 0).next();
-			buffer.vertex(left + 4, top, 0).color(0, 0, 0, 0).next();
-			buffer.vertex(left, top, 0).color(0, 0, 0, 255).next();
-			tessellator.draw();
-		}
-
-		// Scrollbar
-		int maxScroll = this.getMaxScroll();
-		if (maxScroll > 0) {
-			RenderSystem.disableTexture();
-			int scrollbarHeight = (int) ((float) ((this.getHeight()) * (this.getHeight())) / (float) this.getMaxPosition());
-			scrollbarHeight = MathHelper.clamp(scrollbarHeight, 32, this.getHeight() - 8);
-			int scrollbarY = (int) this.getScrollAmount() * (this.getHeight() - scrollbarHeight) / maxScroll + this.getY();
-			if (scrollbarY < this.getY()) {
-				scrollbarY = this.getY();
-			}
+	public void setWidth(int width) {
+		if (this.width == width)
+			return;
 
-			this.renderScrollbar(tessellator, buffer, scrollbarPositionX, scrollBarEnd, scrollbarY, scrollbarHeight);
-		}
+		super.setWidth(width);
+		this.beginUpdate();
+		for (var entry : this.entries)
+			entry.invalidateLayout();
+		// The whole height index is rebuilt at the end of the update.
+		this.pendingHeightUpdates.clear();
+		this.entries.markDirty(0);
+		this.endUpdate();
+	}
 
-		this.getBorder().render(matrices, this, mouseX, mouseY, delta);
+	/* Navigation */
 
-		RenderSystem.enableTexture();
-		RenderSystem.disableBlend();
+	@Override
+	public boolean onNavigation(NavigationDirection direction, boolean tab) {
+		if (this.requiresCursor()) return false;
+		if (direction.isHorizontal() && this.getFocused() != null) {
+			boolean result = this.getFocused().onNavigation(direction, tab);
+			return !this.allowOutsideHorizontalNavigation || result;
+		}
+		boolean result = super.onNavigation(direction, tab);
+		if (result) this.ensureVisible(this.getFocused());
+		return result;
 	}
 
-	protected void renderScrollbar(Tessellator tessellator, BufferBuilder buffer, int scrollbarX, int scrollbarEndX, int scrollbarY, int scrollbarHeight) {
-		RenderSystem.setShader(GameRenderer::getPositionColorShader);
-		buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
-		buffer.vertex(scrollbarX, this.getY() + this.getHeight(), 0.0).color(0, 0, 0, 255).next();
-		buffer.vertex(scrollbarEndX, this.getY() + this.getHeight(), 0.0).color(0, 0, 0, 255).next();
-		buffer.vertex(scrollbarEndX, this.getY(), 0.0).color(0, 0, 0, 255).next();
-		buffer.vertex(scrollbarX, this.getY(), 0.0).color(0, 0, 0, 255).next();
-		buffer.vertex(scrollbarX, scrollbarY + scrollbarHeight, 0.0).color(128, 128, 128, 255).next();
-		buffer.vertex(scrollbarEndX, scrollbarY + scrollbarHeight, 0.0).color(128, 128, 128, 255).next();
-		buffer.vertex(scrollbarEndX, scrollbarY, 0.0).color(128, 128, 128, 255).next();
-		buffer.vertex(scrollbarX, scrollbarY, 0.0).color(128, 128, 128, 255).next();
-		buffer.vertex(scrollbarX, scrollbarY + scrollbarHeight - 1, 0.0).color(192, 192, 192, 255).next();
-		buffer.vertex(scrollbarEndX - 1, scrollbarY + scrollbarHeight - 1, 0.0).color(192, 192, 192, 255).next();
-		buffer.vertex(scrollbarEndX - 1, scrollbarY, 0.0).color(192, 192, 192, 255).next();
-		buffer.vertex(scrollbarX, scrollbarY, 0.0).color(192, 192, 192, 255).next();
-		tessellator.draw();
+	/**
+	 * Renders the entries intersecting the viewport, the other entries are scissored away anyway.
+	 *
+	 * @param matrices the matrices
+	 * @param mouseX the mouse X-coordinate
+	 * @param mouseY the mouse Y-coordinate
+	 * @param delta the tick delta
+	 * @since 3.3.1
+	 */
+	@Override
+	protected void renderEntries(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+		if (this.entries.isEmpty())
+			return;
+
+		int viewportTop = this.getY() - this.anchor.getY();
+		int viewportBottom = viewportTop + this.getHeight();
+		for (int i = this.getEntryIndexAt(viewportTop); i < this.entries.size(); i++) {
+			var entry = this.entries.get(i);
+			if (entry.getPosition().getRelativeY() >= viewportBottom)
+				break;
+			entry.render(matrices, mouseX, mouseY, delta);
+		}
 	}
 
 	/* Narration */
@@ -431,6 +453,9 @@ public abstract class SpruceEntryListWidget<E extends SpruceEntryListWidget.Entr
 	@OnlyIn(Dist.CLIENT)
 	class Entries extends AbstractList<E> {
 		private final List<E> entries;
+		private final FenwickTree heights = new FenwickTree();
+		private int updateDepth = 0;
+		private int dirtyFrom = Integer.MAX_VALUE;
 
 		private Entries() {
 			this.entries = Lists.newArrayList();
@@ -445,29 +470,169 @@ public abstract class SpruceEntryListWidget<E extends SpruceEntryListWidget.Entr
 		}
 
 		public E set(int i, E entry) {
+			this.beforeChange(i);
 			var entry2 = this.entries.set(i, entry);
-			this.recomputePositions();
+			if (this.updateDepth > 0) {
+				this.markDirty(i);
+				return entry2;
+			}
+			entry.getPosition().setRelativeY(this.heights.prefixSum(i));
+			this.updateHeight(i);
 			SpruceEntryListWidget.this.setOwnerShip(entry);
+			SpruceEntryListWidget.this.updateVisibleEntries();
 			return entry2;
 		}
 
 		public void add(int i, E entry) {
+			this.beforeChange(i);
 			this.entries.add(i, entry);
-			this.recomputePositions();
+			if (this.updateDepth > 0) {
+				this.markDirty(i);
+				return;
+			}
+			if (i == this.heights.size()) {
+				entry.getPosition().setRelativeY(this.heights.total());
+				this.heights.add(entry.getHeight());
+			} else {
+				this.recomputePositions(i);
+			}
 			SpruceEntryListWidget.this.setOwnerShip(entry);
+			SpruceEntryListWidget.this.updateVisibleEntries();
 		}
 
 		public E remove(int i) {
+			this.beforeChange(i);
 			var result = this.entries.remove(i);
-			this.recomputePositions();
+			if (this.updateDepth > 0) {
+				this.markDirty(i);
+				return result;
+			}
+			if (i == this.heights.size() - 1)
+				this.heights.removeLast();
+			else
+				this.recomputePositions(i);
+			SpruceEntryListWidget.this.updateVisibleEntries();
 			return result;
 		}
 
-		private void recomputePositions() {
-			int y = 0;
-			for (var entry : this.entries) {
-				entry.getPosition().setRelativeY(y);
-				y += entry.getHeight();
+		@Override
+		public void clear() {
+			this.beforeChange(0);
+			this.entries.clear();
+			this.heights.clear();
+			if (this.updateDepth > 0)
+				this.dirtyFrom = 0;
+		}
+
+		@Override
+		public boolean addAll(Collection<? extends E> entries) {
+			return this.addAll(this.entries.size(), entries);
+		}
+
+		@Override
+		public boolean addAll(int i, Collection<? extends E> entries) {
+			if (entries.isEmpty())
+				return false;
+			this.beforeChange(i);
+			this.beginUpdate();
+			this.entries.addAll(i, entries);
+			this.markDirty(i);
+			this.endUpdate();
+			return true;
+		}
+
+		@Override
+		public boolean removeIf(Predicate<? super E> filter) {
+			int first = 0;
+			while (first < this.entries.size() && !filter.test(this.entries.get(first)))
+				first++;
+			if (first == this.entries.size())
+				return false;
+
+			this.beforeChange(first);
+			this.beginUpdate();
+			// The element at first already matched, the filter is only tested on the elements after it.
+			this.entries.remove(first);
+			this.entries.subList(first, this.entries.size()).removeIf(filter);
+			this.markDirty(first);
+			this.endUpdate();
+			return true;
+		}
+
+		@Override
+		protected void removeRange(int fromIndex, int toIndex) {
+			if (fromIndex >= toIndex)
+				return;
+			this.beforeChange(fromIndex);
+			this.beginUpdate();
+			this.entries.subList(fromIndex, toIndex).clear();
+			this.markDirty(fromIndex);
+			this.endUpdate();
+		}
+
+		private void beginUpdate() {
+			this.updateDepth++;
+		}
+
+		private void endUpdate() {
+			if (this.updateDepth == 0)
+				throw new IllegalStateException("No entries update to end.");
+			if (--this.updateDepth > 0)
+				return;
+
+			if (this.dirtyFrom != Integer.MAX_VALUE) {
+				int from = this.dirtyFrom;
+				this.dirtyFrom = Integer.MAX_VALUE;
+				this.recomputePositions(from);
+				for (int i = from; i < this.entries.size(); i++)
+					SpruceEntryListWidget.this.setOwnerShip(this.entries.get(i));
+			}
+			SpruceEntryListWidget.this.updateVisibleEntries();
+		}
+
+		/**
+		 * Hides the visible window if the change at the given index shifts it, the window is restored after the change.
+		 */
+		private void beforeChange(int i) {
+			if (i < SpruceEntryListWidget.this.visibleEnd)
+				SpruceEntryListWidget.this.hideVisibleEntries();
+		}
+
+		private void markDirty(int from) {
+			this.dirtyFrom = Math.min(this.dirtyFrom, from);
+		}
+
+		private boolean updateHeight(int i) {
+			int height = this.entries.get(i).getHeight();
+			if (this.heights.get(i) == height)
+				return false;
+
+			this.heights.set(i, height);
+			this.updatePositions(i + 1);
+			return true;
+		}
+
+		private void recomputePositions(int from) {
+			var event = new ListRebuildEvent();
+			event.begin();
+			this.heights.rebuild(this.entries.size(), i -> this.entries.get(i).getHeight());
+			this.updatePositions(from);
+			if (event.shouldCommit()) {
+				event.list = SpruceEntryListWidget.this.getClass().getName();
+				event.entryCount = this.entries.size();
+				event.fromIndex = from;
+				event.commit();
+			}
+		}
+
+		private void updatePositions(int from) {
+			if (from >= this.entries.size())
+				return;
+
+			int y = this.heights.prefixSum(from);
+			for (int i = from; i < this.entries.size(); i++) {
+				this.entries.get(i).getPosition().setRelativeY(y);
+				y += this.heights.get(i);
 			}
 		}
 	}
@@ -483,6 +648,16 @@ public abstract class SpruceEntryListWidget<E extends SpruceEntryListWidget.Entr
 			this.visibleInList = visible;
 		}
 
+		/**
+		 * Returns whether this entry is inside the visible window of its list.
+		 *
+		 * @return {@code true} if this entry is in the visible window, else {@code false}
+		 * @since 3.3.1
+		 */
+		protected boolean isVisibleInList() {
+			return this.visibleInList;
+		}
+
 		@Override
 		public boolean isVisible() {
 			return super.isVisible() && this.visibleInList;
@@ -19,11 +19,16 @@ import net.minecraft.client.gui.screen.narration.NarrationMessageBuilder;
 import net.minecraft.client.gui.screen.narration.NarrationPart;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
+import net.minecraft.util.Util;
 import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFW;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Represents a list widget holding {@link SpruceOption} entries.
@@ -31,16 +36,64 @@ import java.util.List;
  * A {@link SpruceOption} allows to have an easy control over the widgets present in the list.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 2.0.0
  */
 public class SpruceOptionListWidget extends SpruceEntryListWidget<SpruceOptionListWidget.OptionEntry> {
+	private final Deque<HiddenEntry> hiddenEntries = new ArrayDeque<>();
 	private int lastIndex = 0;
+	private boolean lazy = false;
+	private long releaseDelay = -1;
 
 	public SpruceOptionListWidget(Position position, int width, int height) {
 		super(position, width, height, 4, OptionEntry.class);
 	}
 
+	/**
+	 * Returns whether the option widgets are created lazily.
+	 *
+	 * @return {@code true} if the option widgets are created lazily, else {@code false}
+	 * @since 3.3.1
+	 */
+	public boolean isLazy() {
+		return this.lazy;
+	}
+
+	/**
+	 * Sets whether the option widgets are created lazily.
+	 * <p>
+	 * Lazy entries only hold their options and create their widgets when they first enter the viewport,
+	 * their height is estimated until then. This only affects the entries added afterwards.
+	 *
+	 * @param lazy {@code true} if the option widgets are created lazily, else {@code false}
+	 * @since 3.3.1
+	 */
+	public void setLazy(boolean lazy) {
+		this.lazy = lazy;
+	}
+
+	/**
+	 * Returns the delay in milliseconds after which the widgets of lazy entries out of the viewport are released.
+	 *
+	 * @return the release delay, or {@code -1} if the widgets are never released
+	 * @since 3.3.1
+	 */
+	public long getReleaseDelay() {
+		return this.releaseDelay;
+	}
+
+	/**
+	 * Sets the delay in milliseconds after which the widgets of lazy entries out of the viewport are released.
+	 *
+	 * @param releaseDelay the release delay, or {@code -1} if the widgets are never released
+	 * @since 3.3.1
+	 */
+	public void setReleaseDelay(long releaseDelay) {
+		this.releaseDelay = releaseDelay;
+		if (releaseDelay < 0)
+			this.hiddenEntries.clear();
+	}
+
 	/**
 	 * Adds a single option entry. The option will use all the width available.
 	 *
@@ -74,9 +127,30 @@ public class SpruceOptionListWidget extends SpruceEntryListWidget<SpruceOptionLi
 	}
 
 	public void addAll(SpruceOption[] options) {
+		this.beginUpdate();
 		for (int i = 0; i < options.length; i += 2) {
 			this.addOptionEntry(options[i], i < options.length - 1 ? options[i + 1] : null);
 		}
+		this.endUpdate();
+	}
+
+	/* Rendering */
+
+	@Override
+	protected void renderWidget(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+		if (!this.hiddenEntries.isEmpty())
+			this.releaseHiddenEntries(Util.getMeasuringTimeMs());
+		super.renderWidget(matrices, mouseX, mouseY, delta);
+	}
+
+	private void releaseHiddenEntries(long time) {
+		HiddenEntry hidden;
+		while ((hidden = this.hiddenEntries.peekFirst()) != null && time - hidden.since() >= this.releaseDelay) {
+			this.hiddenEntries.pollFirst();
+			// The entry may have been shown and hidden again since.
+			if (!hidden.entry().isVisibleInList() && hidden.entry().hiddenSince == hidden.since())
+				hidden.entry().release();
+		}
 	}
 
 	/* Narration */
@@ -103,30 +177,101 @@ public class SpruceOptionListWidget extends SpruceEntryListWidget<SpruceOptionLi
 		builder.put(NarrationPart.USAGE, Text.translatable("narration.component_list.usage"));
 	}
 
+	private record HiddenEntry(OptionEntry entry, long since) {
+	}
+
 	public static class OptionEntry extends SpruceEntryListWidget.Entry implements SpruceParentWidget<SpruceWidget> {
+		/**
+		 * The estimated height of lazy entries whose widgets have not been created yet.
+		 */
+		private static final int ESTIMATED_HEIGHT = 24;
+
 		private final List<SpruceWidget> children = new ArrayList<>();
+		private final HitTestGrid hitTestGrid = new HitTestGrid(this);
+		private final Runnable childPositionListener = this.hitTestGrid::invalidate;
 		private final SpruceOptionListWidget parent;
+		private final Consumer<OptionEntry> widgetFactory;
+		private final boolean lazy;
+		private boolean materialized = false;
+		private int cachedHeight = ESTIMATED_HEIGHT;
+		private long hiddenSince;
 		private @Nullable SpruceWidget focused;
 		private boolean dragging;
 
-		private OptionEntry(SpruceOptionListWidget parent) {
+		private OptionEntry(SpruceOptionListWidget parent, Consumer<OptionEntry> widgetFactory) {
 			this.parent = parent;
+			this.widgetFactory = widgetFactory;
+			this.lazy = parent.isLazy();
+			if (!this.lazy)
+				this.materialize();
 		}
 
 		public static OptionEntry create(SpruceOptionListWidget parent, SpruceOption option, boolean small) {
-			var entry = new OptionEntry(parent);
-			entry.children.add(option.createWidget(Position.of(entry, entry.getWidth() / 2 - (small ? 75 : 155), 2),
-					small ? 150 : 310));
-			return entry;
+			return new OptionEntry(parent, entry -> entry.children.add(
+					option.createWidget(Position.of(entry, entry.getWidth() / 2 - (small ? 75 : 155), 2), small ? 150 : 310)
+			));
 		}
 
 		public static OptionEntry create(SpruceOptionListWidget parent, SpruceOption firstOption, @Nullable SpruceOption secondOption) {
-			var entry = new OptionEntry(parent);
-			entry.children.add(firstOption.createWidget(Position.of(entry, entry.getWidth() / 2 - 155, 2), 150));
-			if (secondOption != null) {
-				entry.children.add(secondOption.createWidget(Position.of(entry, entry.getWidth() / 2 - 155 + 160, 2), 150));
+			return new OptionEntry(parent, entry -> {
+				entry.children.add(firstOption.createWidget(Position.of(entry, entry.getWidth() / 2 - 155, 2), 150));
+				if (secondOption != null) {
+					entry.children.add(secondOption.createWidget(Position.of(entry, entry.getWidth() / 2 - 155 + 160, 2), 150));
+				}
+			});
+		}
+
+		/**
+		 * Returns whether the widgets of this entry have been created.
+		 *
+		 * @return {@code true} if the widgets have been created, else {@code false}
+		 * @since 3.3.1
+		 */
+		public boolean isMaterialized() {
+			return this.materialized;
+		}
+
+		/**
+		 * Creates the widgets of this entry if needed.
+		 */
+		private void materialize() {
+			if (this.materialized)
+				return;
+
+			this.widgetFactory.accept(this);
+			for (var child : this.children)
+				child.getPosition().addChangeListener(this.childPositionListener);
+			this.materialized = true;
+			this.invalidateLayout();
+		}
+
+		/**
+		 * Releases the widgets of this entry, they will be created again when needed. The cached height is kept.
+		 */
+		private void release() {
+			if (!this.materialized || this.isFocused())
+				return;
+
+			this.setFocused(null);
+			for (var child : this.children)
+				child.getPosition().removeChangeListener(this.childPositionListener);
+			this.children.clear();
+			this.hitTestGrid.invalidate();
+			this.materialized = false;
+		}
+
+		@Override
+		protected void setVisibleInList(boolean visible) {
+			if (this.isVisibleInList() == visible)
+				return;
+
+			super.setVisibleInList(visible);
+			if (visible) {
+				this.materialize();
+			} else if (this.lazy && this.materialized && this.parent.releaseDelay >= 0) {
+				this.hiddenSince = Util.getMeasuringTimeMs();
+				this.parent.hiddenEntries.addLast(new HiddenEntry(this, this.hiddenSince));
 			}
-			return entry;
 		}
 
 		@Override
@@ -136,7 +281,21 @@ public class SpruceOptionListWidget extends SpruceEntryListWidget<SpruceOptionLi
 
 		@Override
 		public int getHeight() {
-			return this.children.stream().mapToInt(SpruceWidget::getHeight).reduce(Integer::max).orElse(0) + 4;
+			this.validateLayout();
+			return this.cachedHeight;
+		}
+
+		@Override
+		protected void measure() {
+			// Released entries keep their last measured height.
+			if (this.materialized)
+				this.cachedHeight = this.children.stream().mapToInt(SpruceWidget::getHeight).reduce(Integer::max).orElse(0) + 4;
+		}
+
+		@Override
+		public void onChildLayoutInvalidated(SpruceWidget child) {
+			this.hitTestGrid.invalidate();
+			super.onChildLayoutInvalidated(child);
 		}
 
 		@Override
@@ -166,20 +325,18 @@ public class SpruceOptionListWidget extends SpruceEntryListWidget<SpruceOptionLi
 			}
 		}
 
+		@Override
+		public Optional<SpruceWidget> hoveredElement(double mouseX, double mouseY) {
+			return Optional.ofNullable(this.hitTestGrid.find(this.children, mouseX, mouseY));
+		}
+
 		/* Input */
 
 		@Override
 		protected boolean onMouseClick(double mouseX, double mouseY, int button) {
-			var it = this.iterator();
-
-			SpruceWidget element;
-			do {
-				if (!it.hasNext()) {
-					return false;
-				}
-
-				element = it.next();
-			} while (!element.mouseClicked(mouseX, mouseY, button));
+			var element = this.hitTestGrid.find(this.children, mouseX, mouseY, child -> child.mouseClicked(mouseX, mouseY, button));
+			if (element == null)
+				return false;
 
 			this.setFocused(element);
 			if (button == GLFW.GLFW_MOUSE_BUTTON_1)
@@ -235,6 +392,7 @@ public class SpruceOptionListWidget extends SpruceEntryListWidget<SpruceOptionLi
 		@Override
 		public boolean onNavigation(NavigationDirection direction, boolean tab) {
 			if (this.requiresCursor()) return false;
+			this.materialize();
 			if (!tab && direction.isVertical()) {
 				if (this.isFocused()) {
 					this.setFocused(null);
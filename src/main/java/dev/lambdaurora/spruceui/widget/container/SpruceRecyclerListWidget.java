@@ -0,0 +1,560 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.widget.container;
+
+import dev.lambdaurora.spruceui.Position;
+import dev.lambdaurora.spruceui.navigation.NavigationDirection;
+import dev.lambdaurora.spruceui.util.FenwickTree;
+import dev.lambdaurora.spruceui.widget.AbstractSpruceWidget;
+import dev.lambdaurora.spruceui.widget.SpruceWidget;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.client.gui.screen.narration.NarrationMessageBuilder;
+import net.minecraft.client.gui.screen.narration.NarrationPart;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Represents a scrollable list displaying a list of models through a small pool of reusable rows.
+ * <p>
+ * The models are kept in a plain list along with the index of their heights, only the rows of the visible window exist:
+ * a row is made of a row entry and of its widget, bound to the model it displays.
+ * Rows leaving the viewport go back to the pool of their view type, to be rebound to the models entering it,
+ * so the memory used by the rows is bounded by the size of the viewport.
+ *
+ * @param <T> the type of model
+ * @param <W> the type of row widget
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+public class SpruceRecyclerListWidget<T, W extends SpruceWidget> extends AbstractSpruceScrollableWidget<SpruceRecyclerListWidget.RowEntry<T, W>> {
+	private final Adapter<T, W> adapter;
+	private final List<T> models = new ArrayList<>();
+	private final FenwickTree heights = new FenwickTree();
+	private final Int2ObjectMap<Deque<RowEntry<T, W>>> pool = new Int2ObjectOpenHashMap<>();
+	// The rows of the visible window, the row at index i displays the model at index windowStart + i.
+	private List<RowEntry<T, W>> rows = new ArrayList<>();
+	private List<RowEntry<T, W>> nextRows = new ArrayList<>();
+	private int windowStart = 0;
+	private int focusedIndex = -1;
+	private int createdWidgets = 0;
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public SpruceRecyclerListWidget(Position position, int width, int height, Adapter<T, W> adapter) {
+		super(position, width, height, 4, (Class) RowEntry.class);
+		this.adapter = adapter;
+	}
+
+	/**
+	 * Returns the adapter binding the models to the row widgets.
+	 *
+	 * @return the adapter
+	 */
+	public Adapter<T, W> getAdapter() {
+		return this.adapter;
+	}
+
+	/**
+	 * Returns the number of row widgets created so far, which is bounded by the number of rows visible at once.
+	 *
+	 * @return the number of created row widgets
+	 */
+	public int getCreatedWidgets() {
+		return this.createdWidgets;
+	}
+
+	/* Models */
+
+	/**
+	 * Returns the displayed models.
+	 *
+	 * @return the models
+	 */
+	public List<T> getModels() {
+		return Collections.unmodifiableList(this.models);
+	}
+
+	/**
+	 * Returns the number of displayed models.
+	 *
+	 * @return the number of models
+	 */
+	public int getModelCount() {
+		return this.models.size();
+	}
+
+	/**
+	 * Replaces the displayed models, the focus is cleared.
+	 *
+	 * @param models the models to display
+	 */
+	public void setModels(Collection<? extends T> models) {
+		this.setFocused(null);
+		this.recycleWindow();
+		this.models.clear();
+		this.models.addAll(models);
+		this.heights.rebuild(this.models.size(), i -> this.adapter.getHeight(this.models.get(i)));
+		this.setScrollAmount(this.getScrollAmount());
+	}
+
+	/**
+	 * Adds a model to display.
+	 *
+	 * @param model the model
+	 * @return the index of the added row
+	 */
+	public int addModel(T model) {
+		this.models.add(model);
+		this.heights.add(this.adapter.getHeight(model));
+		this.setScrollAmount(this.getScrollAmount());
+		return this.models.size() - 1;
+	}
+
+	/**
+	 * Returns the model displayed at the given index.
+	 *
+	 * @param index the index of the row
+	 * @return the model
+	 */
+	public T getModel(int index) {
+		return this.models.get(index);
+	}
+
+	/**
+	 * Rebinds the row at the given index and measures its height again, to call when its model changed.
+	 *
+	 * @param index the index of the row
+	 */
+	public void notifyModelChanged(int index) {
+		var model = this.models.get(index);
+		int height = this.adapter.getHeight(model);
+		if (this.heights.get(index) != height) {
+			this.heights.set(index, height);
+			this.layoutWindow();
+		}
+
+		var row = this.getRow(index);
+		if (row != null) {
+			if (row.viewType == this.adapter.getViewType(model)) {
+				this.adapter.bind(model, row.widget);
+			} else {
+				// The view type changed, the row is rebuilt from the right pool.
+				this.recycleWindow();
+			}
+		}
+		this.setScrollAmount(this.getScrollAmount());
+	}
+
+	/* Scrolling */
+
+	@Override
+	public int getMaxPosition() {
+		return this.heights.total();
+	}
+
+	@Override
+	protected int getEntriesCount() {
+		return this.models.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The rows of the models leaving the viewport are recycled, the models entering it are bound to rows.
+	 */
+	@Override
+	protected void onScrolled() {
+		this.updateWindow();
+	}
+
+	/**
+	 * Ensures that the model at the given index is visible.
+	 *
+	 * @param index the index of the model which needs to be visible
+	 */
+	protected void ensureVisible(int index) {
+		this.ensureVisible(this.anchor.getRelativeY() + this.heights.prefixSum(index), this.heights.get(index));
+	}
+
+	/* Rows */
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Only the rows of the visible window are children of the list.
+	 */
+	@Override
+	public List<RowEntry<T, W>> children() {
+		return Collections.unmodifiableList(this.rows);
+	}
+
+	/**
+	 * Returns the row displaying the model at the given index.
+	 *
+	 * @param index the index of the model
+	 * @return the row, or {@code null} if the model is outside the visible window
+	 */
+	public @Nullable RowEntry<T, W> getRow(int index) {
+		int i = index - this.windowStart;
+		return i < 0 || i >= this.rows.size() ? null : this.rows.get(i);
+	}
+
+	/**
+	 * Updates the window of rows to the models intersecting the viewport.
+	 * <p>
+	 * Only the models entering or leaving the window get their rows bound or recycled.
+	 */
+	private void updateWindow() {
+		int start = 0;
+		int end = 0;
+		int size = this.models.size();
+		if (size != 0) {
+			// Relative to the first model, the bottom of the viewport is exclusive.
+			int top = -this.anchor.getRelativeY();
+			int bottom = top + this.getHeight();
+			if (bottom > 0) {
+				start = Math.min(this.heights.indexOf(top), size);
+				end = Math.min(this.heights.indexOf(bottom - 1) + 1, size);
+			}
+		}
+
+		int oldStart = this.windowStart;
+		int oldEnd = oldStart + this.rows.size();
+		if (start == oldStart && end == oldEnd)
+			return;
+
+		for (int i = oldStart; i < oldEnd; i++) {
+			if (i < start || i >= end)
+				this.recycleRow(this.rows.get(i - oldStart));
+		}
+
+		var newRows = this.nextRows;
+		newRows.clear();
+		for (int i = start; i < end; i++) {
+			if (i >= oldStart && i < oldEnd)
+				newRows.add(this.rows.get(i - oldStart));
+			else
+				newRows.add(this.bindRow(i));
+		}
+
+		this.nextRows = this.rows;
+		this.nextRows.clear();
+		this.rows = newRows;
+		this.windowStart = start;
+	}
+
+	/**
+	 * Updates the positions of the rows of the window, after a height changed.
+	 */
+	private void layoutWindow() {
+		for (int i = 0; i < this.rows.size(); i++) {
+			this.rows.get(i).getPosition().setRelativeY(this.heights.prefixSum(this.windowStart + i));
+		}
+	}
+
+	/**
+	 * Recycles all the rows of the window, they are bound again on the next window update.
+	 */
+	private void recycleWindow() {
+		for (var row : this.rows) {
+			this.recycleRow(row);
+		}
+		this.rows.clear();
+		this.windowStart = 0;
+	}
+
+	private RowEntry<T, W> bindRow(int index) {
+		var model = this.models.get(index);
+		int viewType = this.adapter.getViewType(model);
+		var rows = this.pool.get(viewType);
+		RowEntry<T, W> row;
+		if (rows != null && !rows.isEmpty()) {
+			row = rows.pollLast();
+		} else {
+			this.createdWidgets++;
+			row = new RowEntry<>(this, viewType, this.adapter.createWidget(viewType, Position.origin(), this.getInnerWidth()));
+			row.getPosition().setAnchor(this.anchor);
+		}
+
+		row.index = index;
+		row.model = model;
+		row.getPosition().setRelativeY(this.heights.prefixSum(index));
+		this.adapter.bind(model, row.widget);
+		if (index == this.focusedIndex) {
+			super.setFocused(row);
+		}
+		return row;
+	}
+
+	private void recycleRow(RowEntry<T, W> row) {
+		if (this.getFocused() == row) {
+			// The focused model is remembered by its index, its row is focused again once back in the window.
+			super.setFocused(null);
+		}
+
+		this.adapter.unbind(row.model, row.widget);
+		row.index = -1;
+		row.model = null;
+		this.pool.computeIfAbsent(row.viewType, type -> new ArrayDeque<>()).addLast(row);
+	}
+
+	@Override
+	public void setFocused(@Nullable RowEntry<T, W> focused) {
+		super.setFocused(focused);
+		this.focusedIndex = this.getFocused() == null ? -1 : this.getFocused().index;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The rows being stacked, the only candidate is the row found by the height index at the given Y-coordinate.
+	 */
+	@Override
+	protected @Nullable RowEntry<T, W> findChildAt(double mouseX, double mouseY, Predicate<RowEntry<T, W>> predicate) {
+		if (this.models.isEmpty())
+			return null;
+
+		var row = this.getRow(this.heights.indexOf((int) Math.floor(mouseY) - this.anchor.getY()));
+		return row != null && row.isMouseOver(mouseX, mouseY) && predicate.test(row) ? row : null;
+	}
+
+	/* Navigation */
+
+	@Override
+	public boolean onNavigation(NavigationDirection direction, boolean tab) {
+		if (this.requiresCursor()) return false;
+		var focused = this.getFocused();
+		if (direction.isHorizontal())
+			return focused != null && focused.onNavigation(direction, tab);
+
+		int next;
+		if (this.focusedIndex == -1)
+			next = direction.isLookingForward() ? 0 : this.models.size() - 1;
+		else
+			next = this.focusedIndex + (direction.isLookingForward() ? 1 : -1);
+
+		if (next < 0 || next >= this.models.size()) {
+			this.setFocused(null);
+			return false;
+		}
+
+		this.focusedIndex = next;
+		this.ensureVisible(next);
+		this.setFocused(this.getRow(next));
+		this.setFocused(true);
+		return true;
+	}
+
+	/* Rendering */
+
+	@Override
+	protected void renderEntries(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+		for (var row : this.rows) {
+			row.render(matrices, mouseX, mouseY, delta);
+		}
+	}
+
+	/**
+	 * Represents the adapter between the models and the row widgets of a recycler list.
+	 *
+	 * @param <T> the type of model
+	 * @param <W> the type of row widget
+	 */
+	public interface Adapter<T, W extends SpruceWidget> {
+		/**
+		 * Returns the view type of the given model, row widgets are only reused between models of the same view type.
+		 *
+		 * @param model the model
+		 * @return the view type
+		 */
+		default int getViewType(T model) {
+			return 0;
+		}
+
+		/**
+		 * Returns the height of the row displaying the given model, known without binding a widget.
+		 *
+		 * @param model the model
+		 * @return the height of the row
+		 */
+		int getHeight(T model);
+
+		/**
+		 * Creates a new row widget of the given view type.
+		 *
+		 * @param viewType the view type
+		 * @param position the position of the widget
+		 * @param width the width of the row
+		 * @return the new row widget
+		 */
+		W createWidget(int viewType, Position position, int width);
+
+		/**
+		 * Binds the given model to the given row widget.
+		 *
+		 * @param model the model
+		 * @param widget the row widget
+		 */
+		void bind(T model, W widget);
+
+		/**
+		 * Unbinds the given model from the given row widget before the widget is recycled.
+		 *
+		 * @param model the model
+		 * @param widget the row widget
+		 */
+		default void unbind(T model, W widget) {
+		}
+	}
+
+	/**
+	 * Represents a row of the visible window, the row entry and widget pair bound to a model.
+	 *
+	 * @param <T> the type of model
+	 * @param <W> the type of row widget
+	 */
+	public static class RowEntry<T, W extends SpruceWidget> extends AbstractSpruceWidget {
+		private final SpruceRecyclerListWidget<T, W> parent;
+		private final int viewType;
+		private final W widget;
+		private int index = -1;
+		private T model;
+
+		protected RowEntry(SpruceRecyclerListWidget<T, W> parent, int viewType, W widget) {
+			super(Position.origin());
+			this.parent = parent;
+			this.viewType = viewType;
+			this.widget = widget;
+			widget.getPosition().setAnchor(this);
+		}
+
+		/**
+		 * Returns the index of the model displayed by this row.
+		 *
+		 * @return the index of the model
+		 */
+		public int getIndex() {
+			return this.index;
+		}
+
+		/**
+		 * Returns the model displayed by this row.
+		 *
+		 * @return the model
+		 */
+		public T getModel() {
+			return this.model;
+		}
+
+		/**
+		 * Returns the row widget.
+		 *
+		 * @return the widget
+		 */
+		public W getWidget() {
+			return this.widget;
+		}
+
+		@Override
+		public int getWidth() {
+			return this.parent.getInnerWidth();
+		}
+
+		@Override
+		public int getHeight() {
+			return this.index == -1 ? 0 : this.parent.heights.get(this.index);
+		}
+
+		@Override
+		public void setFocused(boolean focused) {
+			super.setFocused(focused);
+			this.widget.setFocused(focused);
+		}
+
+		/* Navigation */
+
+		@Override
+		public boolean onNavigation(NavigationDirection direction, boolean tab) {
+			if (this.isFocused() && direction.isHorizontal())
+				return this.widget.onNavigation(direction, tab);
+			return super.onNavigation(direction, tab);
+		}
+
+		/* Input */
+
+		@Override
+		protected boolean onMouseClick(double mouseX, double mouseY, int button) {
+			return this.widget.mouseClicked(mouseX, mouseY, button);
+		}
+
+		@Override
+		protected boolean onMouseRelease(double mouseX, double mouseY, int button) {
+			return this.widget.mouseReleased(mouseX, mouseY, button);
+		}
+
+		@Override
+		protected boolean onMouseDrag(double mouseX, double mouseY, int button, double deltaX, double deltaY) {
+			return this.widget.mouseDragged(mouseX, mouseY, button, deltaX, deltaY);
+		}
+
+		@Override
+		protected boolean onKeyPress(int keyCode, int scanCode, int modifiers) {
+			return this.widget.keyPressed(keyCode, scanCode, modifiers);
+		}
+
+		@Override
+		protected boolean onKeyRelease(int keyCode, int scanCode, int modifiers) {
+			return this.widget.keyReleased(keyCode, scanCode, modifiers);
+		}
+
+		@Override
+		protected boolean onCharTyped(char chr, int keyCode) {
+			return this.widget.charTyped(chr, keyCode);
+		}
+
+		/* Rendering */
+
+		@Override
+		protected void renderWidget(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+			this.widget.render(matrices, mouseX, mouseY, delta);
+		}
+
+		/* Narration */
+
+		@Override
+		public void appendNarrations(NarrationMessageBuilder builder) {
+			this.widget.appendNarrations(builder);
+			if (this.parent.getModelCount() > 1)
+				builder.put(NarrationPart.POSITION, Text.translatable("narrator.position.list", this.index + 1, this.parent.getModelCount()));
+		}
+
+		@Override
+		public String toString() {
+			return "SpruceRecyclerListWidget$RowEntry{" +
+					"position=" + this.getPosition() +
+					", width=" + this.getWidth() +
+					", height=" + this.getHeight() +
+					", index=" + this.index +
+					", model=" + this.model +
+					", viewType=" + this.viewType +
+					'}';
+		}
+	}
+}
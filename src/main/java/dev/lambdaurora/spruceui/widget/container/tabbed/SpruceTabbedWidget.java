@@ -30,7 +30,7 @@ import java.util.List;
  * Represents a container widget with tabs.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 2.0.0
  */
 public class SpruceTabbedWidget extends AbstractSpruceParentWidget<SpruceWidget> {
@@ -204,16 +204,16 @@ public class SpruceTabbedWidget extends AbstractSpruceParentWidget<SpruceWidget>
 	}
 
 	public static class TabEntry extends Entry {
-		private final List<OrderedText> title;
-		private final List<OrderedText> description;
+		private final @Nullable Text descriptionText;
+		private List<OrderedText> title;
+		private List<OrderedText> description;
 		private final AbstractSpruceWidget container;
 		private boolean selected;
+		private int measuredHeight;
 
 		protected TabEntry(SideTabList parent, Text title, @Nullable Text description, AbstractSpruceWidget container) {
 			super(parent, title);
-			this.title = this.client.textRenderer.wrapLines(title, this.parent.getWidth() - 18);
-			if (description == null) this.description = null;
-			else this.description = this.client.textRenderer.wrapLines(description, this.parent.getWidth() - 18);
+			this.descriptionText = description;
 			this.container = container;
 
 			if (container instanceof SpruceEntryListWidget<?> listWidget) {
@@ -223,7 +223,21 @@ public class SpruceTabbedWidget extends AbstractSpruceParentWidget<SpruceWidget>
 
 		@Override
 		public int getHeight() {
-			return 4 + (this.title.size() * this.client.textRenderer.fontHeight + 4)
+			this.validateLayout();
+			return this.measuredHeight;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * The title and description are wrapped again to the current width of the list.
+		 */
+		@Override
+		protected void measure() {
+			this.title = this.client.textRenderer.wrapLines(this.getTitle(), this.parent.getWidth() - 18);
+			if (this.descriptionText == null) this.description = null;
+			else this.description = this.client.textRenderer.wrapLines(this.descriptionText, this.parent.getWidth() - 18);
+			this.measuredHeight = 4 + (this.title.size() * this.client.textRenderer.fontHeight + 4)
 					+ (this.description == null ? 0 : this.description.size() * this.client.textRenderer.fontHeight + 4) + 4;
 		}
 
@@ -254,6 +268,7 @@ public class SpruceTabbedWidget extends AbstractSpruceParentWidget<SpruceWidget>
 
 		@Override
 		protected void renderWidget(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+			this.validateLayout();
 			int y = this.getY() + 4;
 			for (var it = this.title.iterator(); it.hasNext(); y += 9) {
 				var line = it.next();
@@ -286,7 +301,7 @@ public class SpruceTabbedWidget extends AbstractSpruceParentWidget<SpruceWidget>
 		public String toString() {
 			return "SpruceTabbedWidget$TabEntry{" +
 					"title=" + this.getTitle() +
-					", description=" + this.description +
+					", description=" + this.descriptionText +
 					", position=" + this.getPosition() +
 					", width=" + this.getWidth() +
 					", height=" + this.getHeight() +
@@ -299,6 +314,7 @@ public class SpruceTabbedWidget extends AbstractSpruceParentWidget<SpruceWidget>
 
 	public static class SeparatorEntry extends Entry {
 		private final SpruceSeparatorWidget separatorWidget;
+		private int measuredHeight;
 
 		protected SeparatorEntry(SideTabList parent, Text title) {
 			super(parent, title);
@@ -316,7 +332,13 @@ public class SpruceTabbedWidget extends AbstractSpruceParentWidget<SpruceWidget>
 
 		@Override
 		public int getHeight() {
-			return this.separatorWidget.getHeight() + 6;
+			this.validateLayout();
+			return this.measuredHeight;
+		}
+
+		@Override
+		protected void measure() {
+			this.measuredHeight = this.separatorWidget.getHeight() + 6;
 		}
 
 		/* Navigation */
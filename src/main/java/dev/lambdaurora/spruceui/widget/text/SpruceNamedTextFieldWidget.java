@@ -28,12 +28,13 @@ import java.util.function.Predicate;
  * Represents a text field widget with a title on top.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 2.1.0
  */
 public class SpruceNamedTextFieldWidget extends AbstractSpruceWidget implements WithBackground, WithBorder {
 	private static final int Y_OFFSET = 13;
 	private final SpruceTextFieldWidget textFieldWidget;
+	private int measuredHeight;
 
 	public SpruceNamedTextFieldWidget(SpruceTextFieldWidget widget) {
 		super(widget.getPosition().copy());
@@ -53,9 +54,30 @@ public class SpruceNamedTextFieldWidget extends AbstractSpruceWidget implements
 		return this.getTextFieldWidget().getWidth();
 	}
 
+	@Override
+	public void setWidth(int width) {
+		this.getTextFieldWidget().setWidth(width);
+	}
+
 	@Override
 	public int getHeight() {
-		return this.getTextFieldWidget().getHeight() + Y_OFFSET;
+		this.validateLayout();
+		return this.measuredHeight;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The height includes the name above the text field.
+	 */
+	@Override
+	public void setHeight(int height) {
+		this.getTextFieldWidget().setHeight(height - Y_OFFSET);
+	}
+
+	@Override
+	protected void measure() {
+		this.measuredHeight = this.getTextFieldWidget().getHeight() + Y_OFFSET;
 	}
 
 	@Override
@@ -9,42 +9,34 @@
 
 package dev.lambdaurora.spruceui.widget.text;
 
-import com.mojang.blaze3d.platform.GlStateManager;
-import com.mojang.blaze3d.systems.RenderSystem;
-//import com.mojang.blaze3d.vertex.Tessellator;
-//import com.mojang.blaze3d.vertex.VertexFormat;
-//import com.mojang.blaze3d.vertex.VertexFormats;
-import com.mojang.blaze3d.vertex.Tessellator;
-import com.mojang.blaze3d.vertex.VertexFormat;
-import com.mojang.blaze3d.vertex.VertexFormats;
 import dev.lambdaurora.spruceui.Position;
 import dev.lambdaurora.spruceui.border.Border;
 import dev.lambdaurora.spruceui.navigation.NavigationDirection;
+import dev.lambdaurora.spruceui.render.BlendMode;
+import dev.lambdaurora.spruceui.render.RenderBackend;
 import dev.lambdaurora.spruceui.util.ColorUtil;
 import dev.lambdaurora.spruceui.util.MultilineText;
+import dev.lambdaurora.spruceui.util.TextBuffer;
+import dev.lambdaurora.spruceui.util.TextMetrics;
 import net.minecraft.SharedConstants;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.screen.Screen;
-import net.minecraft.client.render.GameRenderer;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.math.MathHelper;
 import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFW;
 
-import java.util.Arrays;
 import java.util.List;
 
 /**
  * Represents a text area widget.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 1.6.3
  */
 public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
-	private final TextRenderer textRenderer;
 	private final MultilineText lines;
 	private final Cursor cursor = new Cursor(true);
 	private final Selection selection = new Selection();
@@ -52,10 +44,23 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 	private int displayedLines;
 
 	public SpruceTextAreaWidget(Position position, int width, int height, Text title) {
+		this(position, width, height, title, TextBuffer.rope());
+	}
+
+	/**
+	 * Creates a new text area widget backed by the given text buffer.
+	 *
+	 * @param position the position of the widget
+	 * @param width the width of the widget
+	 * @param height the height of the widget
+	 * @param title the title of the widget
+	 * @param buffer the text buffer to edit
+	 * @since 3.3.1
+	 */
+	public SpruceTextAreaWidget(Position position, int width, int height, Text title, TextBuffer buffer) {
 		super(position, width, height, title);
-		this.textRenderer = this.client.textRenderer;
-		this.displayedLines = this.getInnerHeight() / this.textRenderer.fontHeight;
-		this.lines = new MultilineText(this.getInnerWidth());
+		this.displayedLines = this.getInnerHeight() / TextMetrics.get().getFontHeight();
+		this.lines = new MultilineText(buffer, this.getInnerWidth());
 		this.cursor.toStart();
 		this.sanitize();
 	}
@@ -87,8 +92,9 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 
 	@Override
 	public void setText(@Nullable String text) {
-		this.lines.clear();
-		if (text != null)
+		if (text == null)
+			this.lines.clear();
+		else
 			this.lines.setText(text);
 	}
 
@@ -139,6 +145,19 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 		this.sanitize();
 	}
 
+	@Override
+	public void setWidth(int width) {
+		super.setWidth(width);
+		this.lines.setWidth(this.getInnerWidth());
+		this.sanitize();
+	}
+
+	@Override
+	public void setHeight(int height) {
+		super.setHeight(height);
+		this.setDisplayedLines(this.getInnerHeight() / TextMetrics.get().getFontHeight());
+	}
+
 	@Override
 	public void setCursorToStart() {
 		this.cursor.toStart();
@@ -150,48 +169,11 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 	}
 
 	private void insertCharacter(char character) {
-		if (this.lines.isEmpty()) {
-			this.lines.add(String.valueOf(character));
-			this.setCursorToStart();
-			return;
-		} else {
-			this.selection.erase();
-		}
-
-		if (character == '\n') {
-			String line;
-			if (this.cursor.row == this.lines.size() - 1 && (line = this.lines.get(this.cursor.row)) != null && this.cursor.column >= line.length() - 1) {
-				int currentRow = this.cursor.row;
-				if (!line.endsWith("\n"))
-					this.lines.replaceRow(currentRow, s -> s + "\n");
-				this.lines.add(currentRow + 1, "");
-				this.cursor.moveDown();
-				return;
-			}
-		}
+		this.selection.erase();
 
-		var text = this.getText();
 		int cursorPosition = this.cursor.getPosition();
-		int oldSize = this.lines.size();
-
-		String newText;
-		if (cursorPosition >= text.length()) {
-			newText = text + character;
-		} else {
-			newText = text.substring(0, cursorPosition) + character + text.substring(cursorPosition);
-		}
-
-		this.lines.clear();
-		this.lines.add(newText);
-
-		if (character == '\n') {
-			this.cursor.moveRight();
-			//this.cursor.moveRight();
-		} else {
-			this.cursor.moveRight();
-			if (oldSize + 1 == this.lines.size())
-				this.cursor.moveRight(); // Extra move right.
-		}
+		this.lines.insert(cursorPosition, String.valueOf(character));
+		this.cursor.setPosition(cursorPosition + 1);
 	}
 
 	private void eraseCharacter() {
@@ -200,24 +182,12 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 			return;
 		}
 
-		var line = this.lines.get(this.cursor.row);
-
-		if ((line.isEmpty() || line.equals("\n")) && this.lines.size() != 1) {
-			this.lines.remove(this.cursor.row);
-			this.cursor.moveUp();
-			this.cursor.toRowEnd();
-			return;
-		}
-
-		if (this.cursor.column == 0 && this.cursor.row == 0)
+		int cursorPosition = this.cursor.getPosition();
+		if (cursorPosition == 0)
 			return;
 
-		var text = this.getText();
-		int cursorPosition = this.cursor.getPosition();
-		this.cursor.moveLeft();
-		this.lines.clear();
-		this.lines.add(text.substring(0, cursorPosition - 1) + text.substring(cursorPosition));
-		this.sanitize();
+		this.lines.delete(cursorPosition - 1, cursorPosition);
+		this.cursor.setPosition(cursorPosition - 1);
 	}
 
 	private void removeCharacterForward() {
@@ -226,27 +196,12 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 			return;
 		}
 
-		var line = this.lines.get(this.cursor.row);
-
-		if (line.isEmpty()) {
-			int row = this.cursor.row;
-			if (row >= this.lines.size() - 1)
-				return;
-			this.lines.remove(row);
-			this.sanitize();
-			return;
-		}
-
-		if (this.cursor.column >= line.length() && this.cursor.row == this.lines.size() - 1)
-			return;
-
-		var text = this.getText();
 		int cursorPosition = this.cursor.getPosition();
+		if (cursorPosition >= this.lines.length())
+			return;
 
-		var newText = text.substring(0, cursorPosition) + text.substring(cursorPosition + 1);
-		this.lines.clear();
-		this.lines.add(newText);
-		this.sanitize();
+		this.lines.delete(cursorPosition, cursorPosition + 1);
+		this.cursor.setPosition(cursorPosition);
 	}
 
 	/**
@@ -258,44 +213,19 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 		if (text.isEmpty())
 			return;
 
-		if (this.lines.isEmpty()) {
-			this.lines.add(text);
-			this.cursor.toEnd();
-			return;
-		}
 		this.selection.erase();
 
-		int oldSize = this.lines.size();
-
-		var whole = this.getText();
 		int position = this.cursor.getPosition();
-
-		String newText;
-		if (position >= whole.length()) {
-			newText = whole + text;
-		} else {
-			newText = whole.substring(0, position) + text + whole.substring(position);
-		}
-
-		this.lines.clear();
-		this.lines.setLines(Arrays.asList(newText.split("\n")));
-
-		for (int i = 0; i < text.length(); i++) {
-			if (text.charAt(i) == '\n')
-				this.cursor.moveRight();
-			this.cursor.moveRight();
-		}
-		if (oldSize < this.lines.size()) this.cursor.moveRight();
+		this.lines.insert(position, text);
+		this.cursor.setPosition(position + text.length());
 	}
 
 	protected boolean doesLineOccupyFullSpace(String cursorLine) {
-		return this.textRenderer.getWidth(cursorLine) >= this.getInnerWidth();
+		return TextMetrics.get().getWidth(cursorLine) >= this.getInnerWidth();
 	}
 
 	@Override
 	protected void sanitize() {
-		if (this.lines.isEmpty())
-			this.lines.add("");
 		this.cursor.sanitize();
 	}
 
@@ -422,7 +352,7 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 			this.onSelectionUpdate(() -> {
 				this.cursor.row = row;
 
-				this.cursor.lastColumn = this.cursor.column = this.textRenderer.trimToWidth(this.lines.get(row), x).length();
+				this.cursor.lastColumn = this.cursor.column = TextMetrics.get().getIndexAtX(this.lines.get(row), x);
 			});
 
 			return true;
@@ -473,10 +403,10 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 				continue;
 			if (line.endsWith("\n")) line = line.substring(0, line.length() - 1);
 
-			drawTextWithShadow(matrices, this.textRenderer, Text.literal(line), textX, lineY, textColor);
+			drawTextWithShadow(matrices, this.client.textRenderer, Text.literal(line), textX, lineY, textColor);
 			this.drawSelection(matrices, line, lineY, row);
 
-			lineY += this.textRenderer.fontHeight;
+			lineY += TextMetrics.get().getFontHeight();
 		}
 	}
 
@@ -508,27 +438,13 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 		if (startIndex >= line.length() || startIndex == endIndex)
 			return;
 
-		int x = this.getX() + 4 + this.textRenderer.getWidth(line.substring(0, startIndex));
+		int x = this.getX() + 4 + TextMetrics.get().getWidth(line.substring(0, startIndex));
 		var selected = line.substring(startIndex, endIndex);
 
-		int x2 = x + this.textRenderer.getWidth(selected);
-		int y2 = lineY + this.textRenderer.fontHeight;
-
-		var tessellator = Tessellator.getInstance();
-		var buffer = tessellator.getBufferBuilder();
-		RenderSystem.disableTexture();
-		RenderSystem.enableColorLogicOp();
-		RenderSystem.logicOp(GlStateManager.LogicOp.OR_REVERSE);
-		RenderSystem.setShader(GameRenderer::getPositionShader);
-		RenderSystem.setShaderColor(0.f, 0.f, 255.f, 255.f);
-		buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION);
-		buffer.vertex(x, y2, 0.d).next();
-		buffer.vertex(x2, y2, 0.d).next();
-		buffer.vertex(x2, lineY, 0.d).next();
-		buffer.vertex(x, lineY, 0.d).next();
-		tessellator.draw();
-		RenderSystem.disableColorLogicOp();
-		RenderSystem.enableTexture();
+		int x2 = x + TextMetrics.get().getWidth(selected);
+		int y2 = lineY + TextMetrics.get().getFontHeight();
+
+		RenderBackend.get().fill(BlendMode.OR_REVERSE, x, lineY, x2, y2, 0xff0000ff);
 	}
 
 	/**
@@ -539,8 +455,10 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 	protected void drawCursor(MatrixStack matrices) {
 		if (!this.isFocused())
 			return;
+		// The cursor is drawn over the recorded selection.
+		RenderBackend.get().flush();
 		if (this.lines.isEmpty()) {
-			drawTextWithShadow(matrices, this.textRenderer, Text.literal("_"), this.getX(), this.getY() + 4, ColorUtil.TEXT_COLOR);
+			drawTextWithShadow(matrices, this.client.textRenderer, Text.literal("_"), this.getX(), this.getY() + 4, ColorUtil.TEXT_COLOR);
 			return;
 		}
 
@@ -548,13 +466,13 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 
 		int actualRow = this.cursor.row - firstLine;
 		String cursorLine = this.lines.get(this.cursor.row);
-		int cursorX = this.getX() + 4 + this.textRenderer.getWidth(cursorLine.substring(0, this.cursor.column));
-		int cursorY = this.getY() + 4 + actualRow * this.textRenderer.fontHeight;
+		int cursorX = this.getX() + 4 + TextMetrics.get().getWidth(cursorLine.substring(0, this.cursor.column));
+		int cursorY = this.getY() + 4 + actualRow * TextMetrics.get().getFontHeight();
 
 		if (this.cursor.row < this.lines.size() - 1 || this.cursor.column < cursorLine.length() || this.doesLineOccupyFullSpace(cursorLine))
 			fill(matrices, cursorX - 1, cursorY - 1, cursorX, cursorY + 9, ColorUtil.TEXT_COLOR);
 		else
-			this.textRenderer.drawWithShadow(matrices, "_", cursorX, cursorY, ColorUtil.TEXT_COLOR);
+			this.client.textRenderer.drawWithShadow(matrices, "_", cursorX, cursorY, ColorUtil.TEXT_COLOR);
 	}
 
 	/**
@@ -707,10 +625,19 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 		 * @return the position
 		 */
 		public int getPosition() {
-			int position = 0;
-			for (int i = 0; i < this.row; i++) position += lines.get(i).length();
-			for (int i = 0; i < this.column; i++) position += 1;
-			return position;
+			return lines.getRowStart(this.row) + this.column;
+		}
+
+		/**
+		 * Moves the cursor to the given position in the text.
+		 *
+		 * @param position the position
+		 */
+		public void setPosition(int position) {
+			position = MathHelper.clamp(position, 0, lines.length());
+			this.row = lines.getRowAt(position);
+			this.lastColumn = this.column = position - lines.getRowStart(this.row);
+			this.sanitize();
 		}
 
 		private void adjustFirstLine() {
@@ -818,33 +745,9 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 				return false;
 			}
 
-			if (start.row == 0 && start.column == 0 && end.row == lines.size() - 1 && end.column >= lines.get(lines.size() - 1).length()) {
-				lines.clear();
-				lines.add("");
-				this.cancel();
-				return true;
-			}
-
-			if (start.row == end.row) {
-				String line = lines.get(start.row);
-
-				if (start.column == 0 && end.column >= line.length())
-					lines.remove(start.row);
-				else
-					lines.replaceRow(start.row, line.substring(0, start.column) + line.substring(end.column));
-
-				cursor.copy(start);
-				this.cancel();
-				return true;
-			}
-
-			String text = getText();
-			var newText = text.substring(0, start.getPosition()) + text.substring(end.getPosition());
-
-			lines.clear();
-			lines.add(newText);
-
-			cursor.copy(start);
+			int startPosition = start.getPosition();
+			lines.delete(startPosition, end.getPosition());
+			cursor.setPosition(startPosition);
 
 			this.cancel();
 			return true;
@@ -865,10 +768,7 @@ public class SpruceTextAreaWidget extends AbstractSpruceTextInputWidget {
 			if (start.isSame(end))
 				return "";
 
-			if (start.row == end.row)
-				return lines.get(start.row).substring(start.column, end.column);
-
-			return getText().substring(start.getPosition(), end.getPosition());
+			return lines.getText(start.getPosition(), end.getPosition());
 		}
 
 		public Cursor getStart() {
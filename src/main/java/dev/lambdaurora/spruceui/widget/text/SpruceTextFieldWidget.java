@@ -9,25 +9,19 @@
 
 package dev.lambdaurora.spruceui.widget.text;
 
-import com.mojang.blaze3d.platform.GlStateManager;
-import com.mojang.blaze3d.systems.RenderSystem;
-//import com.mojang.blaze3d.vertex.Tessellator;
-//import com.mojang.blaze3d.vertex.VertexFormat;
-//import com.mojang.blaze3d.vertex.VertexFormats;
-import com.mojang.blaze3d.vertex.Tessellator;
-import com.mojang.blaze3d.vertex.VertexFormat;
-import com.mojang.blaze3d.vertex.VertexFormats;
 import dev.lambdaurora.spruceui.Position;
 import dev.lambdaurora.spruceui.Tooltip;
 import dev.lambdaurora.spruceui.Tooltipable;
 import dev.lambdaurora.spruceui.navigation.NavigationDirection;
+import dev.lambdaurora.spruceui.render.BlendMode;
+import dev.lambdaurora.spruceui.render.RenderBackend;
 import dev.lambdaurora.spruceui.util.ColorUtil;
+import dev.lambdaurora.spruceui.util.TextMetrics;
 import net.minecraft.SharedConstants;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.gui.screen.narration.NarrationMessageBuilder;
 import net.minecraft.client.gui.screen.narration.NarrationPart;
-import net.minecraft.client.render.GameRenderer;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.OrderedText;
 import net.minecraft.text.Style;
@@ -47,7 +41,7 @@ import java.util.function.Predicate;
  * Represents a text field widget.
  *
  * @author LambdAurora
- * @version 3.3.0
+ * @version 3.3.1
  * @since 2.1.0
  */
 public class SpruceTextFieldWidget extends AbstractSpruceTextInputWidget implements Tooltipable {
@@ -175,10 +169,10 @@ public class SpruceTextFieldWidget extends AbstractSpruceTextInputWidget impleme
 		}
 
 		int width = this.getInnerWidth();
-		var string = this.client.textRenderer.trimToWidth(this.text.substring(this.firstCharacterIndex), width);
+		var string = TextMetrics.get().trimToWidth(this.text.substring(this.firstCharacterIndex), width);
 		int l = string.length() + this.firstCharacterIndex;
 		if (this.cursor.column == this.firstCharacterIndex) {
-			this.firstCharacterIndex -= this.client.textRenderer.trimToWidth(this.text, width, true).length();
+			this.firstCharacterIndex -= TextMetrics.get().trimToWidth(this.text, width, true).length();
 		}
 
 		if (this.cursor.column > l) {
@@ -403,10 +397,11 @@ public class SpruceTextFieldWidget extends AbstractSpruceTextInputWidget impleme
 			this.setFocused(true);
 
 			this.onSelectionUpdate(() -> {
-				var displayedText = this.client.textRenderer.trimToWidth(this.text.substring(this.firstCharacterIndex),
+				var metrics = TextMetrics.get();
+				var displayedText = metrics.trimToWidth(this.text.substring(this.firstCharacterIndex),
 						this.getInnerWidth());
 				this.cursor.lastColumn = this.cursor.column = this.firstCharacterIndex
-						+ this.client.textRenderer.trimToWidth(displayedText, x).length();
+						+ metrics.getIndexAtX(displayedText, x);
 			});
 
 			return true;
@@ -442,7 +437,7 @@ public class SpruceTextFieldWidget extends AbstractSpruceTextInputWidget impleme
 		int x = this.getX() + 4;
 		int y = this.getY() + this.getHeight() / 2 - 4;
 
-		var displayedText = this.client.textRenderer.trimToWidth(this.text.substring(this.firstCharacterIndex),
+		var displayedText = TextMetrics.get().trimToWidth(this.text.substring(this.firstCharacterIndex),
 				this.getInnerWidth());
 
 		this.client.textRenderer.drawWithShadow(matrices, this.renderTextProvider.apply(displayedText, this.firstCharacterIndex),
@@ -466,27 +461,13 @@ public class SpruceTextFieldWidget extends AbstractSpruceTextInputWidget impleme
 		if (startIndex >= line.length())
 			return;
 
-		int x = this.getX() + 4 + this.client.textRenderer.getWidth(line.substring(0, startIndex));
+		int x = this.getX() + 4 + TextMetrics.get().getWidth(line.substring(0, startIndex));
 		var selected = line.substring(startIndex, endIndex);
 
-		int x2 = x + this.client.textRenderer.getWidth(selected);
+		int x2 = x + TextMetrics.get().getWidth(selected);
 		int y2 = lineY + this.client.textRenderer.fontHeight;
 
-		var tessellator = Tessellator.getInstance();
-		var buffer = tessellator.getBufferBuilder();
-		RenderSystem.disableTexture();
-		RenderSystem.enableColorLogicOp();
-		RenderSystem.logicOp(GlStateManager.LogicOp.OR_REVERSE);
-		RenderSystem.setShader(GameRenderer::getPositionShader);
-		RenderSystem.setShaderColor(0.f, 0.f, 255.f, 255.f);
-		buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION);
-		buffer.vertex(x, y2, 0.d).next();
-		buffer.vertex(x2, y2, 0.d).next();
-		buffer.vertex(x2, lineY, 0.d).next();
-		buffer.vertex(x, lineY, 0.d).next();
-		tessellator.draw();
-		RenderSystem.disableColorLogicOp();
-		RenderSystem.enableTexture();
+		RenderBackend.get().fill(BlendMode.OR_REVERSE, x, lineY, x2, y2, 0xff0000ff);
 	}
 
 	/**
@@ -497,6 +478,8 @@ public class SpruceTextFieldWidget extends AbstractSpruceTextInputWidget impleme
 	protected void drawCursor(MatrixStack matrices) {
 		if (!this.isFocused())
 			return;
+		// The cursor is drawn over the recorded selection.
+		RenderBackend.get().flush();
 
 		int cursorY = this.getY() + this.getHeight() / 2 - 4;
 
@@ -509,7 +492,7 @@ public class SpruceTextFieldWidget extends AbstractSpruceTextInputWidget impleme
 		this.cursor.sanitize();
 
 		var cursorLine = this.text.substring(this.firstCharacterIndex);
-		int cursorX = this.getX() + 4 + this.client.textRenderer.getWidth(
+		int cursorX = this.getX() + 4 + TextMetrics.get().getWidth(
 				cursorLine.substring(0, this.cursor.column - this.firstCharacterIndex)
 		);
 
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.render;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the atlas packer layouts.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+class AtlasPackerTest {
+	@Test
+	void packsEveryRectangleInsideTheAtlas() {
+		int[] widths = {256, 20, 64, 64, 11, 200, 3};
+		int[] heights = {256, 20, 64, 32, 7, 16, 90};
+		var packer = new AtlasPacker(2048, 1);
+		var layout = packer.pack(widths, heights);
+
+		assertNotNull(layout);
+		for (int i = 0; i < widths.length; i++) {
+			assertTrue(layout.getX(i) >= 0 && layout.getY(i) >= 0, "rectangle " + i + " starts outside of the atlas");
+			assertTrue(layout.getX(i) + widths[i] <= layout.getWidth(), "rectangle " + i + " overflows the atlas width");
+			assertTrue(layout.getY(i) + heights[i] <= layout.getHeight(), "rectangle " + i + " overflows the atlas height");
+		}
+	}
+
+	@Test
+	void rectanglesDontOverlapIncludingPadding() {
+		int padding = 2;
+		int[] widths = {16, 16, 32, 8, 100, 45, 45, 45, 7, 7, 7, 7};
+		int[] heights = {16, 16, 8, 32, 10, 45, 45, 44, 7, 7, 7, 7};
+		var layout = new AtlasPacker(1024, padding).pack(widths, heights);
+
+		assertNotNull(layout);
+		for (int i = 0; i < widths.length; i++) {
+			for (int j = i + 1; j < widths.length; j++) {
+				boolean overlaps = layout.getX(i) < layout.getX(j) + widths[j] + padding
+						&& layout.getX(j) < layout.getX(i) + widths[i] + padding
+						&& layout.getY(i) < layout.getY(j) + heights[j] + padding
+						&& layout.getY(j) < layout.getY(i) + heights[i] + padding;
+				assertFalse(overlaps, "rectangles " + i + " and " + j + " overlap");
+			}
+		}
+	}
+
+	@Test
+	void atlasSizesArePowersOfTwo() {
+		var layout = new AtlasPacker(2048, 0).pack(new int[]{100, 30}, new int[]{70, 30});
+
+		assertNotNull(layout);
+		assertEquals(128, layout.getWidth());
+		assertEquals(128, layout.getHeight());
+	}
+
+	@Test
+	void widthDoublesWhenTheShelvesDontFitTheMaximumHeight() {
+		// A tall rectangle leaves a single 120 pixels wide rectangle on its shelf at a width of 128,
+		// the remaining ones are stacked below it.
+		int[] widths = {8, 120, 120, 120, 120, 120, 120, 120, 120};
+		int[] heights = {200, 8, 8, 8, 8, 8, 8, 8, 8};
+		var layout = new AtlasPacker(256, 0).pack(widths, heights);
+		assertNotNull(layout);
+		assertEquals(128, layout.getWidth());
+		assertEquals(256, layout.getHeight());
+
+		int[] moreWidths = {8, 120, 120, 120, 120, 120, 120, 120, 120, 120};
+		int[] moreHeights = {200, 8, 8, 8, 8, 8, 8, 8, 8, 8};
+		layout = new AtlasPacker(256, 0).pack(moreWidths, moreHeights);
+		assertNotNull(layout);
+		assertEquals(256, layout.getWidth());
+		assertEquals(256, layout.getHeight());
+	}
+
+	@Test
+	void failsWhenTheRectanglesDontFit() {
+		var packer = new AtlasPacker(256, 0);
+		assertNull(packer.pack(new int[]{300}, new int[]{10}));
+		assertNull(packer.pack(new int[]{128, 128, 128, 128, 128}, new int[]{128, 128, 128, 128, 128}));
+		assertNotNull(packer.pack(new int[]{128, 128, 128, 128}, new int[]{128, 128, 128, 128}));
+	}
+
+	@Test
+	void rejectsMismatchedSizes() {
+		assertThrows(IllegalArgumentException.class, () -> new AtlasPacker(256, 0).pack(new int[]{1, 2}, new int[]{1}));
+	}
+}
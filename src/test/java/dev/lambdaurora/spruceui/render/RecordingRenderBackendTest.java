@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.render;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the batching of the recording render backend.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+class RecordingRenderBackendTest {
+	private static final int COLOR = 0xff336699;
+
+	@Test
+	void mergesNonOverlappingQuadsByBlendMode() {
+		var backend = RecordingRenderBackend.headless();
+		for (int i = 0; i < 10; i++) {
+			backend.fill(BlendMode.TRANSLUCENT, i * 20, 0, i * 20 + 10, 10, COLOR);
+			backend.fill(BlendMode.OR_REVERSE, i * 20, 20, i * 20 + 10, 30, COLOR);
+		}
+		assertEquals(20, backend.getPendingQuads());
+
+		backend.flush();
+		assertEquals(2, backend.getDrawCalls());
+		assertEquals(20, backend.getDrawnQuads());
+		assertEquals(0, backend.getPendingQuads());
+	}
+
+	@Test
+	void refusesToMergePastAnOverlappingBatchOfAnotherMode() {
+		var backend = RecordingRenderBackend.headless();
+		backend.fill(BlendMode.TRANSLUCENT, 0, 0, 10, 10, COLOR);
+		backend.fill(BlendMode.OR_REVERSE, 0, 0, 10, 10, COLOR);
+		backend.fill(BlendMode.TRANSLUCENT, 5, 5, 15, 15, COLOR);
+		backend.flush();
+		assertEquals(3, backend.getDrawCalls());
+		assertEquals(3, backend.getDrawnQuads());
+
+		backend.resetCounters();
+		backend.fill(BlendMode.TRANSLUCENT, 0, 0, 10, 10, COLOR);
+		backend.fill(BlendMode.OR_REVERSE, 0, 0, 10, 10, COLOR);
+		backend.fill(BlendMode.TRANSLUCENT, 10, 10, 20, 20, COLOR);
+		backend.flush();
+		assertEquals(2, backend.getDrawCalls());
+		assertEquals(3, backend.getDrawnQuads());
+	}
+
+	@Test
+	void keepsTheDrawOrderOfMergedQuads() {
+		var drawn = new ArrayList<BlendMode>();
+		var counts = new ArrayList<Integer>();
+		var backend = new RecordingRenderBackend((mode, positions, colors, quadCount) -> {
+			drawn.add(mode);
+			counts.add(quadCount);
+		});
+		backend.fill(BlendMode.TRANSLUCENT, 0, 0, 10, 10, COLOR);
+		backend.fill(BlendMode.OR_REVERSE, 0, 0, 10, 10, COLOR);
+		backend.fill(BlendMode.TRANSLUCENT, 20, 0, 30, 10, COLOR);
+		backend.fill(BlendMode.TRANSLUCENT, 0, 0, 10, 10, COLOR);
+		backend.flush();
+
+		assertEquals(List.of(BlendMode.TRANSLUCENT, BlendMode.OR_REVERSE, BlendMode.TRANSLUCENT), drawn);
+		assertEquals(List.of(2, 1, 1), counts);
+	}
+
+	@Test
+	void doesntLookBackPastTheLimit() {
+		var limited = new RecordingRenderBackend((mode, positions, colors, quadCount) -> {
+		}, 1);
+		var unlimited = RecordingRenderBackend.headless();
+		for (var backend : new RecordingRenderBackend[]{limited, unlimited}) {
+			backend.fill(BlendMode.TRANSLUCENT, 0, 0, 10, 10, COLOR);
+			backend.fill(BlendMode.OR_REVERSE, 20, 0, 30, 10, COLOR);
+			backend.fill(BlendMode.TRANSLUCENT, 40, 0, 50, 10, COLOR);
+			backend.flush();
+		}
+
+		assertEquals(3, limited.getDrawCalls());
+		assertEquals(2, unlimited.getDrawCalls());
+		assertEquals(3, limited.getDrawnQuads());
+		assertEquals(3, unlimited.getDrawnQuads());
+	}
+
+	@Test
+	void flushingNothingDoesntDraw() {
+		var backend = RecordingRenderBackend.headless();
+		backend.flush();
+		assertEquals(0, backend.getDrawCalls());
+	}
+}
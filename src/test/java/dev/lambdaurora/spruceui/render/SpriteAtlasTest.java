@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2020-2022 LambdAurora <email@lambdaurora.dev>
+ *
+ * This file is part of SpruceUI.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.spruceui.render;
+
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests the sprites created from an atlas layout.
+ *
+ * @author LambdAurora
+ * @version 3.3.1
+ * @since 3.3.1
+ */
+class SpriteAtlasTest {
+	private static final float EPSILON = 1e-6f;
+
+	@Test
+	void spritesMatchTheLayout() {
+		var textures = List.of(new Identifier("spruceui", "tall"), new Identifier("spruceui", "wide"));
+		int[] widths = {8, 120};
+		int[] heights = {200, 8};
+		var layout = new AtlasPacker(256, 0).pack(widths, heights);
+		assertNotNull(layout);
+
+		var sprites = SpriteAtlas.createSprites(textures, widths, heights, layout);
+		assertEquals(2, sprites.size());
+		for (int i = 0; i < textures.size(); i++) {
+			var sprite = sprites.get(textures.get(i));
+			assertEquals(new SpriteAtlas.Sprite(layout.getX(i), layout.getY(i), widths[i], heights[i], layout.getWidth(), layout.getHeight()),
+					sprite);
+		}
+	}
+
+	@Test
+	void spriteUVsAreRelativeToTheAtlas() {
+		var sprite = new SpriteAtlas.Sprite(8, 64, 120, 8, 256, 128);
+
+		assertEquals(8.f / 256, sprite.getMinU(), EPSILON);
+		assertEquals(128.f / 256, sprite.getMaxU(), EPSILON);
+		assertEquals(64.f / 128, sprite.getMinV(), EPSILON);
+		assertEquals(72.f / 128, sprite.getMaxV(), EPSILON);
+		assertEquals(68.f / 256, sprite.getU(.5f), EPSILON);
+		assertEquals(66.f / 128, sprite.getV(.25f), EPSILON);
+	}
+}